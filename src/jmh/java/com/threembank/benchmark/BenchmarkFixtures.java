@@ -0,0 +1,51 @@
+package com.threembank.benchmark;
+
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import com.threembank.infrastructure.security.user.BasicUserDetails;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Shared setup for the benchmarks, built the same way the application builds its beans.
+ */
+final class BenchmarkFixtures {
+    static final String ISSUER = "https://auth.3mbank.com.br";
+
+    private BenchmarkFixtures() {
+    }
+
+    static SecProperties properties(SigningAlgorithm algorithm) {
+        return properties(algorithm, Map.of());
+    }
+
+    static SecProperties properties(SigningAlgorithm algorithm, Map<String, String> overrides) {
+        var values = new HashMap<String, String>(Map.of(
+                "services.security.jwt.token.algorithm", algorithm.name(),
+                "services.security.jwt.token.issuer", ISSUER,
+                "services.security.jwt.token.expiration-at", "1h",
+                "services.security.jwt.token.expiration-rt", "24h"));
+        values.putAll(overrides);
+        return new Binder(new MapConfigurationPropertySource(values)).bind("services.security", SecProperties.class).get();
+    }
+
+    static JwtKeyRing keyRing(SigningAlgorithm algorithm) throws Exception {
+        return new JwtKeyRing(algorithm.generate(), algorithm);
+    }
+
+    static BasicUserDetails user() {
+        return BasicUserDetails.builder()
+                .id(UUID.randomUUID())
+                .username("user@3mbank.com.br")
+                .authorities(Set.<GrantedAuthority>of(new SimpleGrantedAuthority("USER")))
+                .build();
+    }
+}
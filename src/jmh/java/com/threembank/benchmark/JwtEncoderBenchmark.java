@@ -0,0 +1,65 @@
+package com.threembank.benchmark;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.threembank.infrastructure.security.jwt.KeyRingJwtEncoder;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous encoder setup, which built a new {@link JWKSet} for every key selection,
+ * with the {@link KeyRingJwtEncoder} that signs with a precomputed header and signer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtEncoderBenchmark {
+    private JwtEncoder perCallJwkSet;
+    private JwtEncoder keyRing;
+    private JwtEncoderParameters parameters;
+
+    @Setup
+    public void setup() throws Exception {
+        RSAKey rsaKey = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+        JWKSource<SecurityContext> source = (jwkSelector, _) -> jwkSelector.select(new JWKSet(rsaKey));
+        perCallJwkSet = new NimbusJwtEncoder(source);
+        keyRing = new KeyRingJwtEncoder(new JwtKeyRing(rsaKey, SigningAlgorithm.RS256));
+
+        var now = Instant.now();
+        parameters = JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .subject(UUID.randomUUID().toString())
+                .issuer("https://auth.3mbank.com.br")
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofHours(1)))
+                .claim("username", "user@3mbank.com.br")
+                .claim("authorities", List.of("USER"))
+                .build());
+    }
+
+    @Benchmark
+    public String perCallJwkSet() {
+        return perCallJwkSet.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public String keyRing() {
+        return keyRing.encode(parameters).getTokenValue();
+    }
+}
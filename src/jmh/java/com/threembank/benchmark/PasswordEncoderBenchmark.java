@@ -0,0 +1,49 @@
+package com.threembank.benchmark;
+
+import com.threembank.infrastructure.security.password.HmacSha256PasswordEncoder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password verification as done by the login path with the application's {@code DelegatingPasswordEncoder}, and
+ * client secret verification as done by the {@code client_credentials} token endpoint with the peppered HMAC encoder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+    private static final String PASSWORD = "Example&123Pwd";
+
+    private static final String CLIENT_SECRET = "q8Zl1sVd0m@K3xHf7nR2wYcT9pGb4aLe";
+
+    private PasswordEncoder encoder;
+    private String hash;
+    private PasswordEncoder clientSecretEncoder;
+    private String clientSecretHash;
+
+    @Setup
+    public void setup() {
+        encoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        hash = encoder.encode(PASSWORD);
+        clientSecretEncoder = new HmacSha256PasswordEncoder("benchmark-pepper-benchmark-pepper".getBytes(StandardCharsets.UTF_8));
+        clientSecretHash = clientSecretEncoder.encode(CLIENT_SECRET);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean matchesClientSecret() {
+        return clientSecretEncoder.matches(CLIENT_SECRET, clientSecretHash);
+    }
+}
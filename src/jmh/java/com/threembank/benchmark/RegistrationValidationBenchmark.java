@@ -0,0 +1,64 @@
+package com.threembank.benchmark;
+
+import com.threembank.domain.entity.User;
+import com.threembank.domain.validation.Validate;
+import com.threembank.domain.valueobject.Role;
+import com.threembank.interfaces.dto.RegisterUserRequest;
+import jakarta.validation.Validation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain validation of a new user as done by {@code UserRepositoryImpl.save} on every registration, with the shared
+ * validator ({@code User.isValid()}) and with a {@code ValidatorFactory} bootstrapped per call as before, plus the
+ * registration request carrying {@code @StrongPassword}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistrationValidationBenchmark {
+    private User user;
+    private RegisterUserRequest request;
+
+    @Setup
+    public void setup() {
+        user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("jane.doe@3mbank.com.br");
+        user.setPassword("{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoO5zHc6lJNyPLKJbN1oG5hHoQ7u9QO3Z6");
+        user.setFirstName("Jane");
+        user.setLastName("Doe");
+        user.setRoles(List.of(Role.USER));
+        request = new RegisterUserRequest("Jane", "Doe", "jane.doe@3mbank.com.br", "Example&123Pwd", false, Set.of(Role.USER));
+    }
+
+    @Benchmark
+    public void validateUser() {
+        user.isValid();
+    }
+
+    @Benchmark
+    public Object validateUserPerCallFactory() {
+        try (var factory = Validation.buildDefaultValidatorFactory()) {
+            return factory.getValidator().validate(user);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void validateUserContended() {
+        user.isValid();
+    }
+
+    @Benchmark
+    public void validateRequest() {
+        Validate.of(request);
+    }
+}
@@ -0,0 +1,62 @@
+package com.threembank.benchmark;
+
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.util.Base64URL;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signs and verifies per second on a single thread (one core) for each {@link SigningAlgorithm}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class SigningAlgorithmBenchmark {
+    @Param({"RS256", "ES256", "EdDSA"})
+    private SigningAlgorithm algorithm;
+
+    private JWSHeader header;
+    private JWSSigner signer;
+    private JWSVerifier verifier;
+    private byte[] signingInput;
+    private Base64URL signature;
+
+    @Setup
+    public void setup() throws Exception {
+        JWK jwk = algorithm.generate();
+        header = new JWSHeader.Builder(algorithm.getJwsAlgorithm()).keyID(jwk.getKeyID()).build();
+        signer = algorithm.signer(jwk);
+        verifier = switch (algorithm) {
+            case RS256 -> new RSASSAVerifier(jwk.toRSAKey().toPublicJWK());
+            case ES256 -> new ECDSAVerifier(jwk.toECKey().toPublicJWK());
+            case EdDSA -> new Ed25519Verifier(jwk.toOctetKeyPair().toPublicJWK());
+        };
+        var payload = Base64URL.encode("{\"sub\":\"0197a2f0-6f4e-7c1a-9f1e-2b7d1c3e4a5b\",\"iss\":\"https://auth.3mbank.com.br\","
+                + "\"iat\":1750000000,\"exp\":1750003600,\"username\":\"user@3mbank.com.br\",\"authorities\":[\"USER\"]}");
+        signingInput = (header.toBase64URL() + "." + payload).getBytes(StandardCharsets.US_ASCII);
+        signature = signer.sign(header, signingInput);
+    }
+
+    @Benchmark
+    public Base64URL sign() throws Exception {
+        return signer.sign(header, signingInput);
+    }
+
+    @Benchmark
+    public boolean verify() throws Exception {
+        return verifier.verify(header, signingInput, signature);
+    }
+}
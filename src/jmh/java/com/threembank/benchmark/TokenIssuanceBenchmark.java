@@ -0,0 +1,66 @@
+package com.threembank.benchmark;
+
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.threembank.infrastructure.security.jwt.CompactJwtSerializer;
+import com.threembank.infrastructure.security.jwt.IssuerResolver;
+import com.threembank.infrastructure.security.jwt.JwtTokenProvider;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import com.threembank.infrastructure.security.user.BasicUserDetails;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuance: {@link JwtTokenProvider#generate} (access and refresh token) and a raw {@link NimbusJwtEncoder} encode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenIssuanceBenchmark {
+    @Param({"RS256", "ES256", "EdDSA"})
+    private SigningAlgorithm algorithm;
+
+    private JwtTokenProvider provider;
+    private JwtEncoder nimbusEncoder;
+    private BasicUserDetails user;
+    private JwtEncoderParameters parameters;
+
+    @Setup
+    public void setup() throws Exception {
+        var keyRing = BenchmarkFixtures.keyRing(algorithm);
+        var properties = BenchmarkFixtures.properties(algorithm);
+        provider = new JwtTokenProvider(properties, new CompactJwtSerializer(keyRing), new IssuerResolver(properties));
+        nimbusEncoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(keyRing.snapshot().jwkSet()));
+        user = BenchmarkFixtures.user();
+
+        var now = Instant.now();
+        parameters = JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .subject(user.getId().toString())
+                .issuer(BenchmarkFixtures.ISSUER)
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofHours(1)))
+                .claim("username", user.getUsername())
+                .claim("authorities", List.of("USER"))
+                .build());
+    }
+
+    @Benchmark
+    public Object generate() {
+        return provider.generate(user);
+    }
+
+    @Benchmark
+    public String nimbusEncode() {
+        return nimbusEncoder.encode(parameters).getTokenValue();
+    }
+}
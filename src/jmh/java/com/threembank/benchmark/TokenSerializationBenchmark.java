@@ -0,0 +1,100 @@
+package com.threembank.benchmark;
+
+import com.threembank.infrastructure.security.jwt.CompactJwtSerializer;
+import com.threembank.infrastructure.security.jwt.KeyRingJwtEncoder;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import com.threembank.infrastructure.security.user.BasicUserDetails;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing one access token, claims building included: {@link CompactJwtSerializer}
+ * against the {@code JwtClaimsSet} + {@link JwtEncoder} path. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm} for the bytes allocated per token. {@code compactOnVirtualThreads} signs each token on a
+ * new virtual thread, as a request handled with {@code spring.threads.virtual.enabled} would.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenSerializationBenchmark {
+    private static final int VIRTUAL_THREAD_BATCH = 64;
+
+    @Param({"RS256", "ES256", "EdDSA"})
+    private SigningAlgorithm algorithm;
+
+    private CompactJwtSerializer serializer;
+    private JwtEncoder encoder;
+    private BasicUserDetails user;
+    private String subject;
+    private ExecutorService virtualThreads;
+
+    @Setup
+    public void setup() throws Exception {
+        var keyRing = BenchmarkFixtures.keyRing(algorithm);
+        serializer = new CompactJwtSerializer(keyRing);
+        encoder = new KeyRingJwtEncoder(keyRing);
+        user = BenchmarkFixtures.user();
+        subject = user.getId().toString();
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        virtualThreads.close();
+    }
+
+    @Benchmark
+    public String compact() {
+        var now = Instant.now();
+        return serializer.begin()
+                .claim("sub", subject)
+                .claim("iss", BenchmarkFixtures.ISSUER)
+                .claim("iat", now.getEpochSecond())
+                .claim("exp", now.getEpochSecond() + 3600)
+                .claim("username", user.getUsername())
+                .claim("authorities", user.getAuthorities(), GrantedAuthority::getAuthority)
+                .sign();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VIRTUAL_THREAD_BATCH)
+    public String compactOnVirtualThreads() throws Exception {
+        var tokens = new ArrayList<Future<String>>(VIRTUAL_THREAD_BATCH);
+        for (var i = 0; i < VIRTUAL_THREAD_BATCH; i++) {
+            tokens.add(virtualThreads.submit(this::compact));
+        }
+        String last = null;
+        for (var token : tokens) {
+            last = token.get();
+        }
+        return last;
+    }
+
+    @Benchmark
+    public String encoder() {
+        var now = Instant.now();
+        return encoder.encode(JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .subject(subject)
+                .issuer(BenchmarkFixtures.ISSUER)
+                .issuedAt(now)
+                .expiresAt(now.plusSeconds(3600))
+                .claim("username", user.getUsername())
+                .claim("authorities", user.getAuthorities().stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .toList())
+                .build())).getTokenValue();
+    }
+}
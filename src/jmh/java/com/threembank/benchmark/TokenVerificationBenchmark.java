@@ -0,0 +1,78 @@
+package com.threembank.benchmark;
+
+import com.threembank.infrastructure.security.config.ResourceServerConfig;
+import com.threembank.infrastructure.security.jwt.KeyRingJwtEncoder;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification on the resource-server side: the {@link JwtDecoder} built by
+ * {@link ResourceServerConfig#jwtDecoder}, with and without the verified-token cache, and
+ * {@link ResourceServerConfig#jwtAuthenticationConverter()}. {@code decode} presents the same token every time,
+ * the chatty-client case the cache is for.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenVerificationBenchmark {
+    @Param({"RS256", "ES256", "EdDSA"})
+    private SigningAlgorithm algorithm;
+
+    private JwtDecoder decoder;
+    private JwtDecoder uncachedDecoder;
+    private JwtAuthenticationConverter converter;
+    private String token;
+    private Jwt jwt;
+
+    @Setup
+    public void setup() throws Exception {
+        var keyRing = BenchmarkFixtures.keyRing(algorithm);
+        var config = new ResourceServerConfig(BenchmarkFixtures.properties(algorithm));
+        decoder = config.jwtDecoder(keyRing);
+        converter = config.jwtAuthenticationConverter();
+        uncachedDecoder = new ResourceServerConfig(BenchmarkFixtures.properties(algorithm,
+                Map.of("services.security.jwt.decoder-cache.enabled", "false"))).jwtDecoder(keyRing);
+
+        var now = Instant.now();
+        token = new KeyRingJwtEncoder(keyRing).encode(JwtEncoderParameters.from(JwtClaimsSet.builder()
+                .subject(UUID.randomUUID().toString())
+                .issuer(BenchmarkFixtures.ISSUER)
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofHours(1)))
+                .claim("username", "user@3mbank.com.br")
+                .claim("authorities", List.of("USER", "ADMIN"))
+                .build())).getTokenValue();
+        jwt = decoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return decoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeUncached() {
+        return uncachedDecoder.decode(token);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convert() {
+        return converter.convert(jwt);
+    }
+}
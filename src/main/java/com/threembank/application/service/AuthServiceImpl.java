@@ -6,7 +6,11 @@ import com.threembank.domain.entity.Token;
 import com.threembank.domain.repository.UserRepository;
 import com.threembank.domain.repository.TokenRepository;
 import com.threembank.infrastructure.security.jwt.JwtTokenProvider;
+import com.threembank.infrastructure.security.jwt.revocation.TokenRevocationRegistry;
+import com.threembank.infrastructure.security.password.PasswordUpgrader;
+import com.threembank.infrastructure.security.throttle.LoginThrottle;
 import com.threembank.infrastructure.security.user.BasicUserDetails;
+import com.threembank.infrastructure.security.user.BasicUserDetailsProvider;
 import com.threembank.interfaces.dto.LoginRequest;
 import com.threembank.interfaces.dto.LoginResponse;
 import com.threembank.interfaces.dto.RefreshRequest;
@@ -16,7 +20,7 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
+import java.time.Instant;
 import java.util.UUID;
 
 @Service
@@ -26,53 +30,58 @@ public class AuthServiceImpl implements AuthUseCase {
     private final JwtTokenProvider tokenProvider;
     private final TokenRepository tokenRepository;
     private final UserRepository userRepository;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final LoginThrottle loginThrottle;
+    private final PasswordUpgrader passwordUpgrader;
 
     @Override
     public LoginResponse login(LoginRequest loginRequest) {
+        loginThrottle.acquire(loginRequest.getUsername());
         var authentication = manager.authenticate(new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
         var user = ((BasicUserDetails) authentication.getPrincipal());
+        if (user.isPasswordUpgradeRequired()) {
+            passwordUpgrader.upgrade(user.getId(), loginRequest.getPassword());
+        }
         var tokenResult = tokenProvider.generate(user);
 
-        saveUserToken(tokenResult,user.getId());
+        saveUserToken(tokenResult,user.getId(),user.getTokenEpoch());
 
         return new LoginResponse(tokenResult.accessToken(), tokenResult.refreshToken(), tokenResult.tokenType(), tokenResult.expiresIn().getEpochSecond());
     }
 
     @Override
     public LoginResponse refresh(RefreshRequest refreshRequest) {
-        var userToken = tokenRepository.findByToken(refreshRequest.getToken())
-                .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
-
-        if (userToken.isRevoked() || userToken.isExpired()) {
-            throw new BadCredentialsException("Expired or revoked refresh token");
-        }
+        var rotated = tokenRepository.rotate(refreshRequest.getToken())
+                .orElseThrow(() -> new BadCredentialsException("Invalid, expired or revoked refresh token"));
 
-        var user = userRepository.findById(userToken.getUserId())
+        var user = userRepository.findClaimsById(rotated.getUserId())
                 .orElseThrow(() -> new BadCredentialsException("User not found"));
 
         var tokenResult = tokenProvider.generate(BasicUserDetails.builder()
-                .id(user.getId())
-                .authorities(new HashSet<>(user.getAuthorities()))
-                .username(user.getEmail())
-                .password(user.getPassword())
+                .id(user.id())
+                .authorities(BasicUserDetailsProvider.authoritiesOf(user.roles()))
+                .username(user.email())
+                .tokenEpoch(rotated.getEpoch())
                 .build());
 
-        tokenRepository.revoke(userToken);
-        saveUserToken(tokenResult,user.getId());
+        saveUserToken(tokenResult,user.id(),rotated.getEpoch());
         return new LoginResponse(tokenResult.accessToken(), tokenResult.refreshToken(), tokenResult.tokenType(), tokenResult.expiresIn().getEpochSecond());
     }
 
     @Override
     public void logout(UUID userId) {
-        tokenRepository.revokeAll(userId);
+        var now = Instant.now();
+        var epoch = userRepository.revokeTokens(userId, now);
+        revocationRegistry.revoke(userId.toString(), now, epoch);
     }
 
-    private void saveUserToken(TokenResult tokenResult, UUID userId){
+    private void saveUserToken(TokenResult tokenResult, UUID userId, long epoch){
         tokenRepository.save(Token.builder()
                 .withRefreshToken(tokenResult.refreshToken())
                 .withRevoked(false)
-                .withExpiresAt(tokenResult.expiresIn())
+                .withExpiresAt(tokenResult.refreshExpiresIn())
                 .withUserId(userId)
+                .withEpoch(epoch)
                 .build());
     }
 }
@@ -4,8 +4,14 @@ import com.threembank.application.exception.UseCaseValidationException;
 import com.threembank.application.mapper.UserMapper;
 import com.threembank.application.usercase.RegisterUseCase;
 import com.threembank.domain.entity.Client;
+import com.threembank.domain.exception.DomainValidationException;
 import com.threembank.domain.repository.ServiceRepository;
 import com.threembank.domain.repository.UserRepository;
+import com.threembank.infrastructure.persistence.repository.CachingRegisteredClientRepository;
+import com.threembank.infrastructure.security.password.ClientSecretEncoder;
+import com.threembank.infrastructure.security.user.UnknownUsernameCache;
+import com.threembank.interfaces.dto.RegisterClientBatchRequest;
+import com.threembank.interfaces.dto.RegisterClientBatchResponse;
 import com.threembank.interfaces.dto.RegisterClientRequest;
 import com.threembank.interfaces.dto.RegisterClientResponse;
 import com.threembank.interfaces.dto.RegisterUserRequest;
@@ -14,6 +20,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class RegisterServiceImpl implements RegisterUseCase {
@@ -21,6 +33,9 @@ public class RegisterServiceImpl implements RegisterUseCase {
     private final ServiceRepository serviceRepository;
     private final UserMapper userMapper;
     private final PasswordEncoder encoder;
+    private final UnknownUsernameCache unknownUsernames;
+    private final CachingRegisteredClientRepository registeredClients;
+    private final ClientSecretEncoder clientSecrets;
 
     @Override
     public void register(RegisterUserRequest registerUserRequest) {
@@ -30,6 +45,7 @@ public class RegisterServiceImpl implements RegisterUseCase {
         var user  = userMapper.toUser(registerUserRequest);
         user.definePassword(registerUserRequest.getPassword(), encoder);
         userRepository.save(user);
+        unknownUsernames.invalidate(user.getEmail());
     }
 
     @Override
@@ -38,8 +54,62 @@ public class RegisterServiceImpl implements RegisterUseCase {
             throw new UseCaseValidationException(ValidationMessage.of("clientId", "This clientId already exists"));
         }
         var client = Client.create(clientRequest.getClientId(),clientRequest.getScopes());
-        client.secret(encoder);
+        client.secret(clientSecrets.getEncoder());
         serviceRepository.save(client);
+        registeredClients.invalidate(client.getClientId());
         return new RegisterClientResponse(client.getClientId(), client.getRawSecret());
     }
+
+    /**
+     * Registers every client of the batch independently: invalid and repeated entries are reported per item instead of
+     * failing the request. Existing IDs are found with one query, secrets are generated and encoded in parallel, and
+     * the new clients are written with batched inserts.
+     */
+    @Override
+    public RegisterClientBatchResponse register(RegisterClientBatchRequest batchRequest) {
+        var requests = batchRequest.getClients();
+        var results = new RegisterClientBatchResponse.Item[requests.size()];
+        var candidates = new LinkedHashMap<String, Integer>();
+        for (var i = 0; i < requests.size(); i++) {
+            var clientId = requests.get(i).getClientId();
+            if (candidates.putIfAbsent(clientId, i) != null) {
+                results[i] = RegisterClientBatchResponse.Item.invalid(clientId, "Repeated clientId in the batch");
+            }
+        }
+
+        var existing = serviceRepository.findExistingIds(candidates.keySet());
+        var clients = candidates.entrySet().parallelStream()
+                .filter(candidate -> !existing.contains(candidate.getKey()))
+                .map(candidate -> {
+                    var request = requests.get(candidate.getValue());
+                    try {
+                        var client = Client.create(request.getClientId(), request.getScopes());
+                        client.secret(clientSecrets.getEncoder());
+                        return client;
+                    } catch (DomainValidationException e) {
+                        results[candidate.getValue()] = RegisterClientBatchResponse.Item.invalid(
+                                request.getClientId(), e.erros().values().stream()
+                                        .map(String::valueOf)
+                                        .collect(Collectors.joining("; ")));
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .toList();
+
+        var inserted = clients.isEmpty() ? Set.<String>of() : serviceRepository.insertAll(clients);
+        for (var client : clients) {
+            if (inserted.contains(client.getClientId())) {
+                registeredClients.invalidate(client.getClientId());
+                results[candidates.get(client.getClientId())] =
+                        RegisterClientBatchResponse.Item.created(client.getClientId(), client.getRawSecret());
+            }
+        }
+        for (var entry : candidates.entrySet()) {
+            if (results[entry.getValue()] == null) {
+                results[entry.getValue()] = RegisterClientBatchResponse.Item.alreadyExists(entry.getKey());
+            }
+        }
+        return new RegisterClientBatchResponse(List.of(results));
+    }
 }
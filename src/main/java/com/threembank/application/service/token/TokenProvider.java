@@ -4,4 +4,6 @@ import com.threembank.infrastructure.security.user.BasicUserDetails;
 
 public interface TokenProvider {
     TokenResult generate(BasicUserDetails userDetails);
+
+    TokenResult generate(BasicUserDetails userDetails, String issuer);
 }
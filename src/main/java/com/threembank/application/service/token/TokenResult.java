@@ -2,4 +2,4 @@ package com.threembank.application.service.token;
 
 import java.time.Instant;
 
-public record TokenResult(String accessToken,String refreshToken, Instant expiresIn, String tokenType) {}
+public record TokenResult(String accessToken,String refreshToken, Instant expiresIn, Instant refreshExpiresIn, String tokenType) {}
@@ -1,5 +1,7 @@
 package com.threembank.application.usercase;
 
+import com.threembank.interfaces.dto.RegisterClientBatchRequest;
+import com.threembank.interfaces.dto.RegisterClientBatchResponse;
 import com.threembank.interfaces.dto.RegisterClientRequest;
 import com.threembank.interfaces.dto.RegisterClientResponse;
 import com.threembank.interfaces.dto.RegisterUserRequest;
@@ -7,4 +9,5 @@ import com.threembank.interfaces.dto.RegisterUserRequest;
 public interface RegisterUseCase {
     void register(RegisterUserRequest registerUserRequest);
     RegisterClientResponse register(RegisterClientRequest clientRequest);
+    RegisterClientBatchResponse register(RegisterClientBatchRequest batchRequest);
 }
@@ -24,6 +24,15 @@ import java.util.*;
  */
 @Data
 public class Client {
+    /**
+     * EN: Shared source of randomness for secret generation; {@link SecureRandom} is thread-safe, so clients created
+     * concurrently do not each seed a new generator.
+     * <br><br>
+     * PT-BR: Fonte de aleatoriedade compartilhada para a geração de segredos; {@link SecureRandom} é thread-safe, então
+     * clientes criados concorrentemente não inicializam cada um um novo gerador.
+     */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     /**
      * EN: The unique identifier for the client.
      * <br><br>
@@ -109,9 +118,8 @@ public class Client {
      */
     private static String randonSecret(String clientId) { // Corrected typo from randonSecret to randomSecret
         try {
-            SecureRandom random = new SecureRandom();
             byte[] randomBytes = new byte[24];
-            random.nextBytes(randomBytes);
+            RANDOM.nextBytes(randomBytes);
 
             byte[] clientIdBytes = clientId.getBytes(StandardCharsets.UTF_8);
 
@@ -46,6 +46,15 @@ public class Token {
      */
     private boolean revoked;
 
+    /**
+     * EN: The token epoch of the user when this token was issued. The token is valid only while it matches the user's
+     * current epoch, which is incremented on logout.
+     * <br><br>
+     * PT-BR: A época de tokens do usuário quando este token foi emitido. O token só é válido enquanto ela coincidir com a
+     * época atual do usuário, que é incrementada no logout.
+     */
+    private long epoch;
+
     /**
      * EN: Checks if the token has expired.
      * A token is considered expired if its expiration time is before the current time.
@@ -43,11 +43,12 @@ public class User {
     private String email;
 
     /**
-     * EN: The password for the user account. It is subject to strong password validation.
+     * EN: The encoded password for the user account.
+     * The raw password is subject to strong password validation ({@link StrongPassword}) before it is encoded.
      * <br><br>
-     * PT-BR: A senha para a conta do usuário. Está sujeita à validação de senha forte.
+     * PT-BR: A senha codificada da conta do usuário.
+     * A senha original está sujeita à validação de senha forte ({@link StrongPassword}) antes de ser codificada.
      */
-    @StrongPassword
     private String password;
 
     /**
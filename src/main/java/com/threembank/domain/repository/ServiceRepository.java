@@ -2,7 +2,9 @@ package com.threembank.domain.repository;
 
 import com.threembank.domain.entity.Client;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * EN: Repository interface for managing {@link Client} entities.
@@ -40,4 +42,26 @@ public interface ServiceRepository {
      * @param client The {@link Client} entity to save.
      */
     void save(Client client);
-}
\ No newline at end of file
+
+    /**
+     * EN: Returns which of the given client IDs are already registered, in a single query.
+     * <br><br>
+     * PT-BR: Retorna quais dos IDs de cliente fornecidos já estão cadastrados, em uma única consulta.
+     *
+     * @param clientIds The client IDs to check.
+     * @return The subset of {@code clientIds} that already exist.
+     */
+    Set<String> findExistingIds(Collection<String> clientIds);
+
+    /**
+     * EN: Inserts new clients and their scopes using batched statements.
+     * Clients whose ID was registered concurrently in the meantime are skipped instead of failing the whole batch.
+     * <br><br>
+     * PT-BR: Insere novos clientes e seus escopos usando instruções em lote.
+     * Clientes cujo ID foi cadastrado concorrentemente nesse meio tempo são ignorados em vez de falhar o lote inteiro.
+     *
+     * @param clients The new {@link Client}s, with their secrets already encoded.
+     * @return The client IDs actually inserted.
+     */
+    Set<String> insertAll(Collection<Client> clients);
+}
@@ -3,7 +3,6 @@ package com.threembank.domain.repository;
 import com.threembank.domain.entity.Token;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * EN: Repository interface for managing {@link Token} entities.
@@ -23,30 +22,16 @@ public interface TokenRepository {
     void save(Token token);
 
     /**
-     * EN: Finds a token by its string value.
+     * EN: Revokes a refresh token for rotation, atomically and only if it is still valid: not revoked, not expired and
+     * issued in the user's current token epoch. Concurrent rotations of the same token are serialized by the database:
+     * exactly one of them succeeds.
      * <br><br>
-     * PT-BR: Encontra um token pelo seu valor em string.
+     * PT-BR: Revoga um refresh token para rotação, de forma atômica e somente se ele ainda for válido: não revogado, não
+     * expirado e emitido na época de tokens atual do usuário. Rotações concorrentes do mesmo token são serializadas pelo
+     * banco de dados: exatamente uma delas tem sucesso.
      *
-     * @param token The string value of the token to find.
-     * @return An {@link Optional} containing the {@link Token} if found, or an empty {@link Optional} if not.
+     * @param refreshToken The refresh token presented by the client.
+     * @return An {@link Optional} containing the revoked {@link Token} (user ID and epoch) if it was revoked by this call, or an empty {@link Optional} otherwise.
      */
-    Optional<Token> findByToken(String token);
-
-    /**
-     * EN: Revokes a specific token, marking it as invalid.
-     * <br><br>
-     * PT-BR: Revoga um token específico, marcando-o como inválido.
-     *
-     * @param token The {@link Token} to revoke.
-     */
-    void revoke(Token token);
-
-    /**
-     * EN: Revokes all tokens associated with a specific user.
-     * <br><br>
-     * PT-BR: Revoga todos os tokens associados a um usuário específico.
-     *
-     * @param userId The ID of the user whose tokens are to be revoked.
-     */
-    void revokeAll(UUID userId);
-}
\ No newline at end of file
+    Optional<Token> rotate(String refreshToken);
+}
@@ -1,7 +1,12 @@
 package com.threembank.domain.repository;
 
 import com.threembank.domain.entity.User;
+import com.threembank.domain.valueobject.TokenRevocation;
+import com.threembank.domain.valueobject.UserClaims;
+import com.threembank.domain.valueobject.UserCredential;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,6 +38,30 @@ public interface UserRepository {
      */
     Optional<User> findByUsername(String username);
 
+    /**
+     * EN: Finds the credential of a user by their username, in a single query and without loading the full user.
+     * Used by the authentication path.
+     * <br><br>
+     * PT-BR: Encontra a credencial de um usuário pelo seu nome de usuário, em uma única consulta e sem carregar o usuário completo.
+     * Usado pelo fluxo de autenticação.
+     *
+     * @param username The username of the user to find.
+     * @return An {@link Optional} containing the {@link UserCredential} if found, or an empty {@link Optional} if not.
+     */
+    Optional<UserCredential> findCredentialByUsername(String username);
+
+    /**
+     * EN: Finds the token claims of a user by their ID, in a single query and without loading the full user.
+     * Used by the refresh path.
+     * <br><br>
+     * PT-BR: Encontra os dados dos tokens de um usuário pelo seu ID, em uma única consulta e sem carregar o usuário completo.
+     * Usado pelo fluxo de refresh.
+     *
+     * @param id The ID of the user to find.
+     * @return An {@link Optional} containing the {@link UserClaims} if found, or an empty {@link Optional} if not.
+     */
+    Optional<UserClaims> findClaimsById(UUID id);
+
     /**
      * EN: Finds a user by their unique identifier (ID).
      * <br><br>
@@ -51,4 +80,38 @@ public interface UserRepository {
      * @param user The user entity to save.
      */
     void save(User user);
-}
\ No newline at end of file
+
+    /**
+     * EN: Marks every token issued to the user up to {@code revokedAt} as revoked, and increments the user's token epoch
+     * so every refresh token issued so far stops being accepted. A single-row update, whatever the number of tokens.
+     * <br><br>
+     * PT-BR: Marca como revogados todos os tokens emitidos para o usuário até {@code revokedAt} e incrementa a época de
+     * tokens do usuário, para que nenhum refresh token emitido até então seja aceito. Uma atualização de uma única linha,
+     * qualquer que seja o número de tokens.
+     *
+     * @param id        The ID of the user.
+     * @param revokedAt The moment of the revocation.
+     * @return The token epoch of the user after the revocation.
+     */
+    long revokeTokens(UUID id, Instant revokedAt);
+
+    /**
+     * EN: Finds the token revocations recorded after the given moment.
+     * <br><br>
+     * PT-BR: Encontra as revogações de tokens registradas após o momento informado.
+     *
+     * @param since The exclusive lower bound of the revocation time.
+     * @return The {@link TokenRevocation}s recorded after {@code since}.
+     */
+    List<TokenRevocation> findTokenRevocationsSince(Instant since);
+
+    /**
+     * EN: Replaces the stored password hash of a user, e.g. to re-hash it with the current encoder settings.
+     * <br><br>
+     * PT-BR: Substitui o hash de senha armazenado de um usuário, ex.: para refazê-lo com as configurações atuais do codificador.
+     *
+     * @param id       The ID of the user.
+     * @param password The new encoded password.
+     */
+    void updatePassword(UUID id, String password);
+}
@@ -0,0 +1,21 @@
+package com.threembank.domain.validation;
+
+/**
+ * EN: Screens passwords against a set of passwords known from public breaches.
+ * Implementations may report false positives, never false negatives.
+ * <br><br>
+ * PT-BR: Verifica senhas contra um conjunto de senhas conhecidas de vazamentos públicos.
+ * Implementações podem reportar falsos positivos, nunca falsos negativos.
+ */
+@FunctionalInterface
+public interface BreachedPasswordCheck {
+    /**
+     * EN: Checks whether the password appears in the breached set.
+     * <br><br>
+     * PT-BR: Verifica se a senha aparece no conjunto de senhas vazadas.
+     *
+     * @param password The raw password.
+     * @return {@code true} if the password is (probably) breached, {@code false} otherwise.
+     */
+    boolean isBreached(CharSequence password);
+}
@@ -0,0 +1,141 @@
+package com.threembank.domain.validation;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * EN: Password policy applied by {@link StrongPassword}.
+ * The rules are compiled once into a character-class table and a password is checked in a single pass,
+ * without regular expressions. The passwords that pass the rules can also be screened by a {@link BreachedPasswordCheck}.
+ * The policy in effect is held statically, since Bean Validation instantiates the validator itself,
+ * and is replaced per environment through {@link #configure(PasswordPolicy)}.
+ * <br><br>
+ * PT-BR: Política de senha aplicada por {@link StrongPassword}.
+ * As regras são compiladas uma única vez em uma tabela de classes de caracteres e a senha é verificada em uma única passada,
+ * sem expressões regulares. As senhas aprovadas nas regras também podem ser verificadas por um {@link BreachedPasswordCheck}.
+ * A política em vigor é mantida estaticamente, pois o Bean Validation instancia o validador por conta própria,
+ * e é substituída por ambiente através de {@link #configure(PasswordPolicy)}.
+ */
+@Getter
+public final class PasswordPolicy {
+    private static final byte LOWER = 1;
+    private static final byte UPPER = 2;
+    private static final byte DIGIT = 4;
+    private static final byte SPECIAL = 8;
+    private static final byte FORBIDDEN = 16;
+
+    private static volatile PasswordPolicy current = defaults();
+
+    private final int minLength;
+    private final int maxLength;
+    private final boolean requireLowercase;
+    private final boolean requireUppercase;
+    private final boolean requireDigit;
+    private final boolean requireSpecial;
+    private final String specialCharacters;
+    private final BreachedPasswordCheck breachedPasswordCheck;
+    @Getter(AccessLevel.NONE)
+    private final byte[] classes = new byte[128];
+    @Getter(AccessLevel.NONE)
+    private final int required;
+
+    @Builder(setterPrefix = "with")
+    private PasswordPolicy(int minLength, int maxLength, boolean requireLowercase, boolean requireUppercase,
+                           boolean requireDigit, boolean requireSpecial, String specialCharacters,
+                           BreachedPasswordCheck breachedPasswordCheck) {
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.requireLowercase = requireLowercase;
+        this.requireUppercase = requireUppercase;
+        this.requireDigit = requireDigit;
+        this.requireSpecial = requireSpecial;
+        this.specialCharacters = specialCharacters == null ? "" : specialCharacters;
+        this.breachedPasswordCheck = breachedPasswordCheck;
+
+        for (var c = 'a'; c <= 'z'; c++) classes[c] = LOWER;
+        for (var c = 'A'; c <= 'Z'; c++) classes[c] = UPPER;
+        for (var c = '0'; c <= '9'; c++) classes[c] = DIGIT;
+        for (var c : this.specialCharacters.toCharArray()) {
+            if (c < 128) classes[c] |= SPECIAL;
+        }
+        classes['\n'] = FORBIDDEN;
+        classes['\r'] = FORBIDDEN;
+        this.required = (requireLowercase ? LOWER : 0) | (requireUppercase ? UPPER : 0)
+                | (requireDigit ? DIGIT : 0) | (requireSpecial ? SPECIAL : 0);
+    }
+
+    /**
+     * EN: The default policy: at least 12 characters, with lowercase and uppercase letters, digits
+     * and one of {@code @#$%^&+=!}, without breach screening.
+     * <br><br>
+     * PT-BR: A política padrão: pelo menos 12 caracteres, com letras minúsculas e maiúsculas, dígitos
+     * e um dos caracteres {@code @#$%^&+=!}, sem verificação de vazamentos.
+     *
+     * @return The default PasswordPolicy.
+     */
+    public static PasswordPolicy defaults() {
+        return PasswordPolicy.builder()
+                .withMinLength(12)
+                .withMaxLength(128)
+                .withRequireLowercase(true)
+                .withRequireUppercase(true)
+                .withRequireDigit(true)
+                .withRequireSpecial(true)
+                .withSpecialCharacters("@#$%^&+=!")
+                .build();
+    }
+
+    /**
+     * EN: Returns the policy in effect.
+     * <br><br>
+     * PT-BR: Retorna a política em vigor.
+     *
+     * @return The current PasswordPolicy.
+     */
+    public static PasswordPolicy current() {
+        return current;
+    }
+
+    /**
+     * EN: Replaces the policy in effect, usually once at startup.
+     * <br><br>
+     * PT-BR: Substitui a política em vigor, normalmente uma única vez na inicialização.
+     *
+     * @param policy The new PasswordPolicy.
+     */
+    public static void configure(PasswordPolicy policy) {
+        current = policy;
+    }
+
+    /**
+     * EN: Checks the password against the rules and, when configured, the breached-password check.
+     * <br><br>
+     * PT-BR: Verifica a senha contra as regras e, quando configurada, a verificação de senhas vazadas.
+     *
+     * @param password The raw password.
+     * @return {@code true} if the password is accepted, {@code false} otherwise (including if it is null).
+     */
+    public boolean test(CharSequence password) {
+        if (password == null) {
+            return false;
+        }
+        var length = password.length();
+        if (length < minLength || length > maxLength) {
+            return false;
+        }
+        var found = 0;
+        for (var i = 0; i < length; i++) {
+            var c = password.charAt(i);
+            if (c < 128) {
+                found |= classes[c];
+            } else if (c == 0x85 || c == 0x2028 || c == 0x2029) {
+                return false;
+            }
+        }
+        if ((found & FORBIDDEN) != 0 || (found & required) != required) {
+            return false;
+        }
+        return breachedPasswordCheck == null || !breachedPasswordCheck.isBreached(password);
+    }
+}
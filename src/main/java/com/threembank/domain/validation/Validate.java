@@ -18,30 +18,44 @@ import java.util.Set;
  * Esta classe fornece um método estático para validar objetos e lança uma {@link DomainValidationException}
  * se quaisquer violações de restrição forem encontradas.
  */
-public class Validate {
-    private final Validator validator;
-
+public final class Validate {
     /**
-     * EN: Private constructor to initialize the validator.
-     * It builds a default validator factory and gets a validator instance.
-     * The factory is closed automatically using a try-with-resources statement.
+     * EN: Classes declaring at least one constraint, resolved once per class.
+     * Objects of unconstrained classes are accepted without going through the validator.
      * <br><br>
-     * PT-BR: Construtor privado para inicializar o validador.
-     * Ele constrói uma fábrica de validadores padrão e obtém uma instância do validador.
-     * A fábrica é fechada automaticamente usando uma instrução try-with-resources.
+     * PT-BR: Classes que declaram ao menos uma restrição, resolvidas uma única vez por classe.
+     * Objetos de classes sem restrições são aceitos sem passar pelo validador.
      */
-    private Validate() {
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            this.validator = factory.getValidator();
+    private static final ClassValue<Boolean> CONSTRAINED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return Engine.VALIDATOR.getConstraintsForClass(type).isBeanConstrained();
         }
+    };
+
+    private Validate() {
+    }
+
+    /**
+     * EN: Holds the shared {@link ValidatorFactory}, built lazily on first use and kept for the lifetime of the application.
+     * The {@link Validator} is thread-safe and caches the constraint metadata of every class it validates,
+     * so the bootstrap and metadata building are paid once instead of on every validation.
+     * <br><br>
+     * PT-BR: Mantém a {@link ValidatorFactory} compartilhada, construída sob demanda no primeiro uso e mantida durante toda a aplicação.
+     * O {@link Validator} é thread-safe e guarda em cache os metadados de restrições de cada classe validada,
+     * assim a inicialização e a construção dos metadados são pagas uma única vez, e não a cada validação.
+     */
+    private static final class Engine {
+        private static final ValidatorFactory FACTORY = Validation.buildDefaultValidatorFactory();
+        private static final Validator VALIDATOR = FACTORY.getValidator();
     }
 
     /**
-     * EN: Validates the given object using the initialized validator.
+     * EN: Validates the given object using the shared validator.
      * If validation violations are found, it collects them into {@link ValidationMessage}
      * objects and throws a {@link DomainValidationException}.
      * <br><br>
-     * PT-BR: Valida o objeto fornecido usando o validador inicializado.
+     * PT-BR: Valida o objeto fornecido usando o validador compartilhado.
      * Se violações de validação forem encontradas, ele as coleta em objetos {@link ValidationMessage}
      * e lança uma {@link DomainValidationException}.
      *
@@ -52,8 +66,10 @@ public class Validate {
      *                                   detailing each violation.
      */
     public static <T> void of(T obj) {
-        var instance = new Validate();
-        Set<ConstraintViolation<T>> violations = instance.validator.validate(obj);
+        if (!CONSTRAINED.get(obj.getClass())) {
+            return;
+        }
+        Set<ConstraintViolation<T>> violations = Engine.VALIDATOR.validate(obj);
         if (!violations.isEmpty()) {
             throw new DomainValidationException(
                     violations.stream()
@@ -63,4 +79,4 @@ public class Validate {
             );
         }
     }
-}
\ No newline at end of file
+}
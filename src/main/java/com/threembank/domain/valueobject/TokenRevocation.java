@@ -0,0 +1,18 @@
+package com.threembank.domain.valueobject;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * EN: Records that every token issued to a user before the revocation (e.g. on logout) has been revoked:
+ * tokens stamped with an epoch lower than {@code epoch}.
+ * <br><br>
+ * PT-BR: Registra que todos os tokens emitidos para um usuário antes da revogação (ex.: no logout) foram revogados:
+ * os tokens marcados com uma época menor que {@code epoch}.
+ *
+ * @param userId    The ID of the user whose tokens were revoked.
+ * @param revokedAt The moment of the revocation.
+ * @param epoch     The token epoch of the user after the revocation.
+ */
+public record TokenRevocation(UUID userId, Instant revokedAt, long epoch) {
+}
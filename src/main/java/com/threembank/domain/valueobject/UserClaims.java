@@ -0,0 +1,16 @@
+package com.threembank.domain.valueobject;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * EN: The data of a user carried by issued tokens: ID, e-mail and roles, without credentials or the rest of the profile.
+ * <br><br>
+ * PT-BR: Os dados de um usuário levados pelos tokens emitidos: ID, e-mail e papéis, sem credenciais nem o restante do perfil.
+ *
+ * @param id    The ID of the user.
+ * @param email The e-mail (username) of the user.
+ * @param roles The roles assigned to the user.
+ */
+public record UserClaims(UUID id, String email, Set<Role> roles) {
+}
@@ -0,0 +1,18 @@
+package com.threembank.domain.valueobject;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * EN: The data needed to authenticate a user: ID, e-mail, password hash and roles, without the rest of the profile.
+ * <br><br>
+ * PT-BR: Os dados necessários para autenticar um usuário: ID, e-mail, hash da senha e papéis, sem o restante do perfil.
+ *
+ * @param id       The ID of the user.
+ * @param email    The e-mail (username) of the user.
+ * @param password The encoded password.
+ * @param roles    The roles assigned to the user.
+ * @param epoch    The current token epoch of the user.
+ */
+public record UserCredential(UUID id, String email, String password, Set<Role> roles, long epoch) {
+}
@@ -0,0 +1,23 @@
+package com.threembank.infrastructure.persistence.bulkhead;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * EN: Runs the annotated repository method under a permit of the {@link DatabaseBulkhead} for the given
+ * {@link DbOperation}. The permit is taken before the method's transaction is opened, so a call that cannot get one
+ * never holds a pooled connection while it waits.
+ * <br><br>
+ * PT-BR: Executa o método de repositório anotado com uma permissão do {@link DatabaseBulkhead} para a
+ * {@link DbOperation} informada. A permissão é obtida antes de a transação do método ser aberta, então uma chamada que
+ * não a consegue nunca segura uma conexão do pool enquanto espera.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+    DbOperation value();
+}
@@ -0,0 +1,49 @@
+package com.threembank.infrastructure.persistence.bulkhead;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * EN: Applies {@link Bulkhead} to repository methods. Its advisor is ordered before the transaction advisor, so the
+ * permit is held around the whole transaction.
+ * <br><br>
+ * PT-BR: Aplica {@link Bulkhead} aos métodos de repositório. Seu advisor é ordenado antes do advisor de transações,
+ * então a permissão é mantida durante toda a transação.
+ */
+public class BulkheadInterceptor implements MethodInterceptor {
+    private final ObjectProvider<DatabaseBulkhead> bulkhead;
+
+    public BulkheadInterceptor(ObjectProvider<DatabaseBulkhead> bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        var target = invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+        var method = AopUtils.getMostSpecificMethod(invocation.getMethod(), target);
+        var annotation = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+        if (annotation == null) {
+            return invocation.proceed();
+        }
+        try {
+            return bulkhead.getObject().call(annotation.value(), () -> {
+                try {
+                    return invocation.proceed();
+                } catch (Throwable e) {
+                    throw new InvocationFailure(e);
+                }
+            });
+        } catch (InvocationFailure e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class InvocationFailure extends RuntimeException {
+        private InvocationFailure(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+}
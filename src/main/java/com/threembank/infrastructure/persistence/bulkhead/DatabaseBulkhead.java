@@ -0,0 +1,112 @@
+package com.threembank.infrastructure.persistence.bulkhead;
+
+import com.threembank.infrastructure.persistence.config.properties.PersistenceProperties;
+import com.threembank.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * EN: Limits how many threads may use the database at once, per {@link DbOperation}, in front of the connection pool.
+ * Each operation class has a fair {@link Semaphore}: waiting callers are served in arrival order, and a caller that
+ * does not get a permit within {@code timeout} fails fast with a {@link ServiceOverloadedException} (503 with
+ * {@code Retry-After}) instead of waiting on the pool until its connection timeout. Keeping the permits of each class
+ * at or below the pool size means that with request handling on virtual threads, where nothing else bounds the number
+ * of concurrent requests, contention is absorbed here and measured, rather than turning into pool timeouts. With read
+ * replicas, {@code read-permits} is the share of the primary pool, and the {@code maximum-pool-size} of every replica
+ * is added to it, since reads spread over the replica pools. A thread that already runs inside a transaction already
+ * holds its connection, so it is not limited again. Published as {@code db.bulkhead.wait} (time to get a permit),
+ * {@code db.bulkhead.rejected} and {@code db.bulkhead.available}, tagged by {@code operation}.
+ * <br><br>
+ * PT-BR: Limita quantas threads podem usar o banco de dados ao mesmo tempo, por {@link DbOperation}, antes do pool de
+ * conexões. Cada classe de operação tem um {@link Semaphore} justo: quem espera é atendido por ordem de chegada, e quem
+ * não obtém permissão dentro de {@code timeout} falha rápido com uma {@link ServiceOverloadedException} (503 com
+ * {@code Retry-After}) em vez de esperar no pool até o timeout de conexão. Mantendo as permissões de cada classe no
+ * máximo no tamanho do pool, com as requisições em virtual threads, onde nada mais limita o número de requisições
+ * simultâneas, a disputa é absorvida e medida aqui, em vez de virar timeouts do pool. Com réplicas de leitura,
+ * {@code read-permits} é a parte do pool do primário, e o {@code maximum-pool-size} de cada réplica é somado a ele, pois
+ * as leituras se espalham pelos pools das réplicas. Uma thread que já está dentro de uma transação já tem sua conexão,
+ * então não é limitada de novo. Publicado em {@code db.bulkhead.wait} (tempo para obter a permissão),
+ * {@code db.bulkhead.rejected} e {@code db.bulkhead.available}, com a tag {@code operation}.
+ */
+@Component
+public class DatabaseBulkhead {
+    private final boolean enabled;
+    private final long timeoutNanos;
+    private final Duration retryAfter;
+    private final Map<DbOperation, Compartment> compartments = new EnumMap<>(DbOperation.class);
+
+    public DatabaseBulkhead(PersistenceProperties properties, MeterRegistry registry) {
+        this.enabled = properties.isBulkheadEnabled();
+        this.timeoutNanos = properties.getBulkheadTimeout().toNanos();
+        this.retryAfter = properties.getBulkheadRetryAfter();
+        for (var operation : DbOperation.values()) {
+            compartments.put(operation, new Compartment(operation, properties.getBulkheadPermits(operation), registry));
+        }
+    }
+
+    public <T> T call(DbOperation operation, Supplier<T> work) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        var compartment = compartments.get(operation);
+        compartment.acquire();
+        try {
+            return work.get();
+        } finally {
+            compartment.permits.release();
+        }
+    }
+
+    public void run(DbOperation operation, Runnable work) {
+        call(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private final class Compartment {
+        private final DbOperation operation;
+        private final Semaphore permits;
+        private final Timer waits;
+        private final Counter rejections;
+
+        private Compartment(DbOperation operation, int permits, MeterRegistry registry) {
+            var tag = operation.name().toLowerCase();
+            this.operation = operation;
+            this.permits = new Semaphore(permits, true);
+            this.waits = Timer.builder("db.bulkhead.wait").tag("operation", tag).register(registry);
+            this.rejections = Counter.builder("db.bulkhead.rejected").tag("operation", tag).register(registry);
+            Gauge.builder("db.bulkhead.available", this.permits, Semaphore::availablePermits)
+                    .tag("operation", tag)
+                    .register(registry);
+        }
+
+        private void acquire() {
+            var start = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            waits.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejections.increment();
+                throw new ServiceOverloadedException("Database capacity for %s operations exhausted"
+                        .formatted(operation.name().toLowerCase()), retryAfter);
+            }
+        }
+    }
+}
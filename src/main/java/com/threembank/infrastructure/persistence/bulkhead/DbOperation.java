@@ -0,0 +1,29 @@
+package com.threembank.infrastructure.persistence.bulkhead;
+
+/**
+ * EN: Classes of database work that get separate permits from the {@link DatabaseBulkhead}, so a burst of one class (a
+ * login storm, a batch registration) cannot take every connection from the others.
+ * <br><br>
+ * PT-BR: Classes de trabalho no banco de dados com permissões separadas no {@link DatabaseBulkhead}, para que um pico
+ * de uma classe (uma onda de logins, um cadastro em lote) não tome todas as conexões das outras.
+ */
+public enum DbOperation {
+    /**
+     * EN: Lookups served by a single short query: credentials, claims, clients, refresh tokens.
+     * <br><br>
+     * PT-BR: Consultas atendidas por uma única query curta: credenciais, claims, clientes, refresh tokens.
+     */
+    READ,
+    /**
+     * EN: Single-row inserts and updates: registrations, token rotation and revocation, refresh token inserts.
+     * <br><br>
+     * PT-BR: Inserts e updates de uma linha: cadastros, rotação e revogação de tokens, inserts de refresh tokens.
+     */
+    WRITE,
+    /**
+     * EN: Multi-row statements that hold a connection for longer, such as batch client registration.
+     * <br><br>
+     * PT-BR: Instruções de várias linhas que seguram uma conexão por mais tempo, como o cadastro de clientes em lote.
+     */
+    BATCH
+}
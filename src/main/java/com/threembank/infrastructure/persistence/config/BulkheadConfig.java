@@ -0,0 +1,44 @@
+package com.threembank.infrastructure.persistence.config;
+
+import com.threembank.infrastructure.persistence.bulkhead.Bulkhead;
+import com.threembank.infrastructure.persistence.bulkhead.BulkheadInterceptor;
+import com.threembank.infrastructure.persistence.bulkhead.DatabaseBulkhead;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+/**
+ * EN: Configuration of the database bulkhead around the repository adapters.
+ * <br><br>
+ * PT-BR: Configuração do bulkhead de banco de dados em torno dos adaptadores de repositório.
+ */
+@Configuration
+public class BulkheadConfig {
+
+    /**
+     * EN: Applies {@link Bulkhead} to the annotated repository methods, ordered before the transaction advisor so the
+     * permit of the {@link DatabaseBulkhead} is taken before the transaction takes a connection from the pool.
+     * Declared as an infrastructure bean, like the transaction advisor, so it is picked up by the same auto-proxy creator.
+     * <br><br>
+     * PT-BR: Aplica {@link Bulkhead} aos métodos de repositório anotados, ordenado antes do advisor de transações para
+     * que a permissão do {@link DatabaseBulkhead} seja obtida antes de a transação retirar uma conexão do pool.
+     * Declarado como bean de infraestrutura, como o advisor de transações, para ser usado pelo mesmo auto-proxy creator.
+     *
+     * @param bulkhead The bulkhead, resolved on first use.
+     * @return The Advisor.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor bulkheadAdvisor(ObjectProvider<DatabaseBulkhead> bulkhead) {
+        var advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(null, Bulkhead.class, true),
+                new BulkheadInterceptor(bulkhead));
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+}
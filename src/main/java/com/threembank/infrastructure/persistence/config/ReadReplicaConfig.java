@@ -0,0 +1,109 @@
+package com.threembank.infrastructure.persistence.config;
+
+import com.threembank.infrastructure.persistence.config.properties.PersistenceProperties;
+import com.threembank.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.threembank.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EN: Routes read-only transactions to read replicas, active only when {@code services.persistence.read-replicas.urls}
+ * is configured. Without it, the auto-configured {@code spring.datasource} is used as before.
+ * <br><br>
+ * PT-BR: Direciona transações somente leitura para réplicas de leitura, ativo apenas quando
+ * {@code services.persistence.read-replicas.urls} está configurado. Sem ele, o {@code spring.datasource} autoconfigurado é
+ * usado como antes.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnExpression("!'${services.persistence.read-replicas.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+    private final PersistenceProperties properties;
+
+    /**
+     * EN: The pool of the primary database, built from {@code spring.datasource} as the auto-configuration would.
+     * <br><br>
+     * PT-BR: O pool do banco de dados primário, criado a partir de {@code spring.datasource} como a autoconfiguração faria.
+     *
+     * @param dataSourceProperties The {@code spring.datasource} properties.
+     * @return The primary HikariDataSource.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * EN: Creates one read-only pool per replica and monitors their replication lag.
+     * <br><br>
+     * PT-BR: Cria um pool somente leitura por réplica e monitora o atraso de replicação delas.
+     *
+     * @param primaryDataSource    The pool of the primary database, whose WAL position the lag is measured against.
+     * @param dataSourceProperties The {@code spring.datasource} properties, providing the default credentials and driver.
+     * @param registry             The registry receiving the lag metrics.
+     * @return The ReplicaLagMonitor.
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               DataSourceProperties dataSourceProperties, MeterRegistry registry) {
+        return new ReplicaLagMonitor(primaryDataSource, replicas(dataSourceProperties),
+                properties.getReadReplicaMaxLag(), registry);
+    }
+
+    /**
+     * EN: The application {@link DataSource}: a {@link LazyConnectionDataSourceProxy} over the primary that takes
+     * connections only when the first statement runs, once the transaction is known to be read-only, and then hands
+     * read-only transactions ({@code @Transactional(readOnly = true)}) to the {@link ReplicaRoutingDataSource}.
+     * <br><br>
+     * PT-BR: O {@link DataSource} da aplicação: um {@link LazyConnectionDataSourceProxy} sobre o primário que só obtém
+     * conexões quando a primeira instrução é executada, quando já se sabe se a transação é somente leitura, e então
+     * entrega as transações somente leitura ({@code @Transactional(readOnly = true)}) ao {@link ReplicaRoutingDataSource}.
+     *
+     * @param primaryDataSource The pool of the primary database.
+     * @param monitor           The replica lag monitor.
+     * @return The DataSource.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagMonitor monitor) {
+        var proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, monitor.getReplicas(), monitor));
+        return proxy;
+    }
+
+    private List<DataSource> replicas(DataSourceProperties dataSourceProperties) {
+        var username = StringUtils.hasText(properties.getReadReplicaUsername())
+                ? properties.getReadReplicaUsername() : dataSourceProperties.determineUsername();
+        var password = StringUtils.hasText(properties.getReadReplicaPassword())
+                ? properties.getReadReplicaPassword() : dataSourceProperties.determinePassword();
+        var urls = properties.getReadReplicaUrls();
+        var pools = new ArrayList<DataSource>(urls.size());
+        for (var i = 0; i < urls.size(); i++) {
+            var pool = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i))
+                    .username(username)
+                    .password(password)
+                    .build();
+            pool.setPoolName("replica-" + i);
+            pool.setReadOnly(true);
+            pool.setMaximumPoolSize(properties.getReadReplicaMaximumPoolSize());
+            pools.add(pool);
+        }
+        return pools;
+    }
+}
@@ -0,0 +1,57 @@
+package com.threembank.infrastructure.persistence.config;
+
+import com.threembank.infrastructure.persistence.bulkhead.DatabaseBulkhead;
+import com.threembank.infrastructure.persistence.config.properties.PersistenceProperties;
+import com.threembank.infrastructure.persistence.mapper.TokenMapper;
+import com.threembank.infrastructure.persistence.token.BatchingTokenWriter;
+import com.threembank.infrastructure.persistence.token.SynchronousTokenWriter;
+import com.threembank.infrastructure.persistence.token.TokenWriteMode;
+import com.threembank.infrastructure.persistence.token.TokenWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * EN: Configuration of the persistence of issued refresh tokens.
+ * <br><br>
+ * PT-BR: Configuração da persistência dos refresh tokens emitidos.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TokenWriterConfig {
+    private final PersistenceProperties properties;
+
+    /**
+     * EN: Provides the {@link TokenWriter} selected by {@code services.persistence.token-writer.mode}:
+     * a {@link SynchronousTokenWriter} for {@link TokenWriteMode#SYNC}, otherwise a {@link BatchingTokenWriter}
+     * that coalesces concurrent inserts and writes what is still queued when the context closes.
+     * <br><br>
+     * PT-BR: Fornece o {@link TokenWriter} selecionado por {@code services.persistence.token-writer.mode}:
+     * um {@link SynchronousTokenWriter} para {@link TokenWriteMode#SYNC}, caso contrário um {@link BatchingTokenWriter}
+     * que agrupa inserções concorrentes e grava o que ainda estiver na fila quando o contexto é encerrado.
+     *
+     * @param entityManager       The shared EntityManager.
+     * @param mapper              The token mapper.
+     * @param transactionTemplate The template used to run each batch in its own transaction.
+     * @param bulkhead            The bulkhead limiting concurrent inserts.
+     * @param registry            The registry receiving the batch metrics.
+     * @return The TokenWriter.
+     */
+    @Bean
+    public TokenWriter tokenWriter(EntityManager entityManager, TokenMapper mapper,
+                                   TransactionTemplate transactionTemplate, DatabaseBulkhead bulkhead,
+                                   MeterRegistry registry) {
+        var synchronous = new SynchronousTokenWriter(entityManager, mapper, transactionTemplate, bulkhead);
+        if (properties.getTokenWriteMode() == TokenWriteMode.SYNC) {
+            return synchronous;
+        }
+        var batching = new BatchingTokenWriter(synchronous, properties.getTokenWriteMode(),
+                properties.getTokenWriteWindow(), properties.getTokenWriteMaxBatch(),
+                properties.getTokenWriteQueueCapacity(), properties.getTokenWriteTimeout(), registry);
+        batching.start();
+        return batching;
+    }
+}
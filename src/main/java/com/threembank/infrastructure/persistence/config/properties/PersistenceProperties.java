@@ -0,0 +1,151 @@
+package com.threembank.infrastructure.persistence.config.properties;
+
+import com.threembank.infrastructure.persistence.bulkhead.DbOperation;
+import com.threembank.infrastructure.persistence.token.TokenWriteMode;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "services.persistence")
+public class PersistenceProperties {
+    private TokenWriter tokenWriter = new TokenWriter();
+    private TokenRetention tokenRetention = new TokenRetention();
+    private ReadReplicas readReplicas = new ReadReplicas();
+    private Bulkhead bulkhead = new Bulkhead();
+
+    public TokenWriteMode getTokenWriteMode(){
+        return tokenWriter.getMode();
+    }
+
+    public Duration getTokenWriteWindow(){
+        return tokenWriter.getWindow();
+    }
+
+    public int getTokenWriteMaxBatch(){
+        return tokenWriter.getMaxBatch();
+    }
+
+    public int getTokenWriteQueueCapacity(){
+        return tokenWriter.getQueueCapacity();
+    }
+
+    public Duration getTokenWriteTimeout(){
+        return tokenWriter.getTimeout();
+    }
+
+    public int getTokenRetentionChunkSize(){
+        return tokenRetention.getChunkSize();
+    }
+
+    public Duration getTokenRetentionPause(){
+        return tokenRetention.getPause();
+    }
+
+    public Duration getTokenRetentionMaxDuration(){
+        return tokenRetention.getMaxDuration();
+    }
+
+    public boolean isTokenRetentionPartitioned(){
+        return tokenRetention.getPartitioned();
+    }
+
+    public int getTokenRetentionPartitionsAhead(){
+        return tokenRetention.getPartitionsAhead();
+    }
+
+    public List<String> getReadReplicaUrls(){
+        return readReplicas.getUrls();
+    }
+
+    public String getReadReplicaUsername(){
+        return readReplicas.getUsername();
+    }
+
+    public String getReadReplicaPassword(){
+        return readReplicas.getPassword();
+    }
+
+    public int getReadReplicaMaximumPoolSize(){
+        return readReplicas.getMaximumPoolSize();
+    }
+
+    public Duration getReadReplicaMaxLag(){
+        return readReplicas.getMaxLag();
+    }
+
+    public Duration getReadYourWritesWindow(){
+        return readReplicas.getReadYourWritesWindow();
+    }
+
+    public boolean isBulkheadEnabled(){
+        return bulkhead.getEnabled();
+    }
+
+    public int getBulkheadPermits(DbOperation operation){
+        return switch (operation) {
+            case READ -> bulkhead.getReadPermits() + readReplicas.getUrls().size() * readReplicas.getMaximumPoolSize();
+            case WRITE -> bulkhead.getWritePermits();
+            case BATCH -> bulkhead.getBatchPermits();
+        };
+    }
+
+    public Duration getBulkheadTimeout(){
+        return bulkhead.getTimeout();
+    }
+
+    public Duration getBulkheadRetryAfter(){
+        return bulkhead.getRetryAfter();
+    }
+
+    @Getter
+    @Setter
+    static class TokenWriter {
+        private TokenWriteMode mode = TokenWriteMode.GROUP_COMMIT;
+        private Duration window = Duration.ofMillis(2);
+        private Integer maxBatch = 50;
+        private Integer queueCapacity = 10_000;
+        private Duration timeout = Duration.ofSeconds(2);
+    }
+
+    @Getter
+    @Setter
+    static class TokenRetention {
+        private Boolean enabled = true;
+        private Duration interval = Duration.ofHours(1);
+        private Integer chunkSize = 1_000;
+        private Duration pause = Duration.ofMillis(100);
+        private Duration maxDuration = Duration.ofMinutes(5);
+        private Boolean partitioned = false;
+        private Integer partitionsAhead = 2;
+    }
+
+    @Getter
+    @Setter
+    static class ReadReplicas {
+        private List<String> urls = List.of();
+        private String username;
+        private String password;
+        private Integer maximumPoolSize = 10;
+        private Duration maxLag = Duration.ofSeconds(2);
+        private Duration lagCheckInterval = Duration.ofSeconds(5);
+        private Duration readYourWritesWindow = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    static class Bulkhead {
+        private Boolean enabled = true;
+        private Integer readPermits = 6;
+        private Integer writePermits = 3;
+        private Integer batchPermits = 1;
+        private Duration timeout = Duration.ofMillis(500);
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,34 @@
+package com.threembank.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Signing keys shared by every instance when JWT key rotation is enabled. Read and written through JDBC by
+ * {@code JwtKeyStore}; mapped here so the table follows the schema of the other entities.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "jwt_signing_keys")
+public class JwtSigningKeyEntity {
+    @Id
+    @Column(name = "kid", length = 128)
+    private String keyId;
+
+    @Column(name = "sealed_jwk", nullable = false)
+    private byte[] sealedJwk;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "activates_at", nullable = false)
+    private Instant activatesAt;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 
@@ -13,14 +14,19 @@ import java.time.Instant;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tokens")
+@Table(name = "tokens", indexes = @Index(name = "idx_tokens_token_digest", columnList = "token_digest"))
 public class TokenEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tokens_seq")
+    @SequenceGenerator(name = "tokens_seq", sequenceName = "tokens_seq", allocationSize = 50)
     private Long id;
 
-    @Column(name = "refresh_token", nullable = false, length = 2048)
-    private String token;
+    /**
+     * Indexed but not declared unique: a partitioned {@code tokens} (db/tokens-partitioned.sql) can only enforce
+     * uniqueness per partition. Digests are of random tokens, so they do not collide in practice.
+     */
+    @Column(name = "token_digest", nullable = false, length = 32)
+    private byte[] digest;
 
     @Column(name = "expire_at", nullable = false)
     private Instant expiresAt;
@@ -28,6 +34,10 @@ public class TokenEntity {
     @Column(name = "revoked",nullable = false)
     private boolean revoked;
 
+    @ColumnDefault("0")
+    @Column(name = "token_epoch", nullable = false)
+    private long epoch;
+
     @ManyToOne(fetch = FetchType.LAZY,optional = false)
     private UserEntity user;
 }
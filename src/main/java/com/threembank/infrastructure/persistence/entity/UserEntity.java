@@ -3,18 +3,20 @@ package com.threembank.infrastructure.persistence.entity;
 import com.threembank.domain.valueobject.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_tokens_revoked_at", columnList = "tokens_revoked_at"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,6 +47,13 @@ public class UserEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Column(name = "tokens_revoked_at")
+    private Instant tokensRevokedAt;
+
+    @ColumnDefault("0")
+    @Column(name = "token_epoch", nullable = false)
+    private long tokenEpoch;
+
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private CredentialEntity userCredential;
 
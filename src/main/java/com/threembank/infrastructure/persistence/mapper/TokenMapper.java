@@ -2,19 +2,23 @@ package com.threembank.infrastructure.persistence.mapper;
 
 import com.threembank.domain.entity.Token;
 import com.threembank.infrastructure.persistence.entity.TokenEntity;
+import com.threembank.infrastructure.security.jwt.TokenDigest;
 import org.mapstruct.*;
 
 @Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE, componentModel = MappingConstants.ComponentModel.SPRING,
-        builder = @Builder(disableBuilder = true))
+        builder = @Builder(disableBuilder = true), imports = TokenDigest.class)
 public interface TokenMapper {
 
     @Mapping(target = "user.id", source = "userId")
-    @Mapping(target = "token", source = "refreshToken")
+    @Mapping(target = "digest", expression = "java(TokenDigest.of(token.getRefreshToken()))")
     TokenEntity toEntity(Token token);
 
-    @InheritInverseConfiguration(name = "toEntity")
+    @Mapping(target = "userId", source = "user.id")
+    @Mapping(target = "refreshToken", ignore = true)
     Token toUserToken(TokenEntity tokenEntity);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "digest", expression = "java(token.getRefreshToken() == null ? tokenEntity.getDigest() "
+            + ": TokenDigest.of(token.getRefreshToken()))")
     TokenEntity partialUpdate(Token token, @MappingTarget TokenEntity tokenEntity);
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.threembank.infrastructure.persistence.repository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.Getter;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+
+import java.time.Duration;
+
+/**
+ * EN: {@link RegisteredClientRepository} that keeps the {@link RegisteredClient}s built by its delegate in memory, so
+ * the {@code client_credentials} token endpoint does not query the database on every client authentication. Loads are
+ * single-flight: concurrent lookups of a client that is not cached wait for one load instead of each going to the
+ * database. Entries are refreshed in the background {@code refresh} after they were loaded, while the cached value
+ * keeps being served, and dropped {@code ttl} after the last successful load. Lookups of unknown clients are not
+ * cached. Changes made through {@link #save(RegisteredClient)} or announced with {@link #invalidate(String)} are
+ * visible immediately on this instance; other instances see them at the next refresh. In this service the id of a
+ * {@link RegisteredClient} is its client id, so both lookups share the same entries.
+ * <br><br>
+ * PT-BR: {@link RegisteredClientRepository} que mantém em memória os {@link RegisteredClient}s criados pelo seu
+ * delegate, para que o endpoint de token {@code client_credentials} não consulte o banco a cada autenticação de cliente.
+ * As cargas são únicas: buscas simultâneas de um cliente fora do cache esperam uma só carga em vez de irem cada uma ao
+ * banco. As entradas são atualizadas em segundo plano {@code refresh} após a carga, enquanto o valor em cache continua
+ * sendo servido, e descartadas {@code ttl} após a última carga bem-sucedida. Buscas de clientes desconhecidos não são
+ * guardadas. Alterações feitas por {@link #save(RegisteredClient)} ou anunciadas com {@link #invalidate(String)} valem
+ * na hora nesta instância; as outras instâncias as veem no próximo refresh. Neste serviço o id de um
+ * {@link RegisteredClient} é o seu client id, então as duas buscas usam as mesmas entradas.
+ */
+public class CachingRegisteredClientRepository implements RegisteredClientRepository {
+    private final RegisteredClientRepository delegate;
+    @Getter
+    private final LoadingCache<String, RegisteredClient> cache;
+
+    public CachingRegisteredClientRepository(RegisteredClientRepository delegate, long maximumSize,
+                                             Duration ttl, Duration refresh) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .refreshAfterWrite(refresh)
+                .recordStats()
+                .build(delegate::findByClientId);
+    }
+
+    @Override
+    public void save(RegisteredClient registeredClient) {
+        delegate.save(registeredClient);
+        invalidate(registeredClient.getClientId());
+    }
+
+    @Override
+    public RegisteredClient findById(String id) {
+        return cache.get(id);
+    }
+
+    @Override
+    public RegisteredClient findByClientId(String clientId) {
+        return cache.get(clientId);
+    }
+
+    public void invalidate(String clientId) {
+        cache.invalidate(clientId);
+    }
+}
@@ -1,6 +1,8 @@
 package com.threembank.infrastructure.persistence.repository;
 
+import com.threembank.domain.valueobject.Scope;
 import com.threembank.infrastructure.persistence.repository.jpa.ServiceJpaRepository;
+import com.threembank.infrastructure.persistence.routing.ReadYourWritesTracker;
 import com.threembank.shared.exception.BasicValidationException;
 import com.threembank.shared.message.ValidationMessage;
 import lombok.RequiredArgsConstructor;
@@ -8,23 +10,39 @@ import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.stream.Collectors;
 
 
 @RequiredArgsConstructor
 public class ServiceRegisteredRepository implements RegisteredClientRepository {
     private final ServiceJpaRepository repository;
+    private final ReadYourWritesTracker tracker;
 
+    /**
+     * Updates the secret and scopes of an existing client. Called by {@code ClientSecretAuthenticationProvider} when a
+     * secret stored with an outdated encoding is re-encoded after a successful authentication. Clients are created
+     * through {@code RegisterUseCase}, so saving an unknown client is rejected.
+     */
     @Override
+    @Transactional
     public void save(RegisteredClient registeredClient) {
-        // Implementar se o Spring Authorization Server precisar gerenciar o ciclo de vida do RegisteredClient diretamente.
-        // Atualmente, a gestão de Clientes é feita via RegisterUseCase e o método save(Client client) desta classe.
-        // Lançar UnsupportedOperationException se esta funcionalidade não for prevista:
-        // throw new UnsupportedOperationException("Client registration and updates are managed via custom application services.");
+        var clientId = registeredClient.getClientId();
+        var client = tracker.read("client:" + clientId, () -> repository.findById(clientId))
+                .orElseThrow(() -> new BasicValidationException(ValidationMessage.of("clientID", "Client not found")));
+        client.setClientSecret(registeredClient.getClientSecret());
+        client.setScopes(registeredClient.getScopes().stream()
+                .map(Scope::valueOf)
+                .collect(Collectors.toCollection(HashSet::new)));
+        repository.save(client);
+        tracker.written("client:" + clientId);
     }
 
     @Override
     public RegisteredClient findById(String id) {
-        var client = repository.findById(id)
+        var client = tracker.read("client:" + id, () -> repository.findById(id))
                 .orElseThrow(() -> new BasicValidationException(ValidationMessage.of("clientID", "Client not found")));
 
         return RegisteredClient
@@ -2,33 +2,116 @@ package com.threembank.infrastructure.persistence.repository;
 
 import com.threembank.domain.entity.Client;
 import com.threembank.domain.repository.ServiceRepository;
+import com.threembank.infrastructure.persistence.bulkhead.Bulkhead;
+import com.threembank.infrastructure.persistence.bulkhead.DbOperation;
 import com.threembank.infrastructure.persistence.mapper.ServiceMapper;
 import com.threembank.infrastructure.persistence.repository.jpa.ServiceJpaRepository;
+import com.threembank.infrastructure.persistence.routing.ReadYourWritesTracker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class ServiceRepositoryImpl implements ServiceRepository {
+    private static final int BATCH_SIZE = 100;
+    private static final String INSERT_SERVICES = """
+            insert into services (client_id, client_secret)
+            select * from unnest(?::varchar[], ?::varchar[])
+            on conflict (client_id) do nothing
+            returning client_id""";
 
     private final ServiceJpaRepository repository;
     private final ServiceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadYourWritesTracker tracker;
 
-
+    @Bulkhead(DbOperation.READ)
+    @Transactional(readOnly = true)
     @Override
     public Optional<Client> findClientById(String clientId) {
-        return repository.findById(clientId).map(mapper::toClient);
+        return tracker.read(key(clientId), () -> repository.findById(clientId).map(mapper::toClient));
     }
 
+    @Bulkhead(DbOperation.READ)
+    @Transactional(readOnly = true)
     @Override
     public boolean exists(String clientId) {
-        return repository.existsById(clientId);
+        return tracker.read(key(clientId), () -> repository.existsById(clientId));
     }
 
+    @Bulkhead(DbOperation.WRITE)
     @Override
     public void save(Client client) {
         repository.save(mapper.toEntity(client));
+        tracker.written(key(client.getClientId()));
+    }
+
+    /**
+     * May be served by a replica: an id it reports as missing while already registered is still caught by the
+     * {@code on conflict do nothing} of {@link #insertAll(Collection)}.
+     */
+    @Bulkhead(DbOperation.READ)
+    @Transactional(readOnly = true)
+    @Override
+    public Set<String> findExistingIds(Collection<String> clientIds) {
+        return clientIds.isEmpty() ? Set.of() : repository.findExistingIds(clientIds);
+    }
+
+    /**
+     * Inserts each chunk of clients with one {@code insert ... select from unnest(...)} instead of one persist per
+     * client, skipping IDs registered concurrently with {@code on conflict do nothing}. The statement returns the IDs it
+     * actually inserted, and scopes are only written for those.
+     */
+    @Bulkhead(DbOperation.BATCH)
+    @Override
+    @Transactional
+    public Set<String> insertAll(Collection<Client> clients) {
+        var rows = List.copyOf(clients);
+        var insertedIds = new HashSet<String>(rows.size());
+        for (var from = 0; from < rows.size(); from += BATCH_SIZE) {
+            var chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            insertedIds.addAll(jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(INSERT_SERVICES);
+                statement.setArray(1, connection.createArrayOf("varchar",
+                        chunk.stream().map(Client::getClientId).toArray()));
+                statement.setArray(2, connection.createArrayOf("varchar",
+                        chunk.stream().map(Client::getClientSecret).toArray()));
+                return statement;
+            }, (rs, rowNum) -> rs.getString(1)));
+        }
+
+        var pending = new HashSet<>(insertedIds);
+        var inserted = new ArrayList<Client>(insertedIds.size());
+        for (var client : rows) {
+            if (pending.remove(client.getClientId())) {
+                inserted.add(client);
+            }
+        }
+
+        var scopes = inserted.stream()
+                .flatMap(client -> client.getScopes().stream().map(scope -> Map.entry(client.getClientId(), scope)))
+                .toList();
+        jdbcTemplate.batchUpdate("insert into services_scopes (client_id, scope) values (?, ?)",
+                scopes, BATCH_SIZE, (statement, scope) -> {
+                    statement.setString(1, scope.getKey());
+                    statement.setString(2, scope.getValue().name());
+                });
+
+        insertedIds.forEach(clientId -> tracker.written(key(clientId)));
+        return insertedIds;
+    }
+
+    private static String key(String clientId) {
+        return "client:" + clientId;
     }
 }
@@ -2,43 +2,53 @@ package com.threembank.infrastructure.persistence.repository;
 
 import com.threembank.domain.entity.Token;
 import com.threembank.domain.repository.TokenRepository;
-import com.threembank.infrastructure.persistence.mapper.TokenMapper;
-import com.threembank.infrastructure.persistence.repository.jpa.TokenJpaRepository;
+import com.threembank.infrastructure.persistence.bulkhead.Bulkhead;
+import com.threembank.infrastructure.persistence.bulkhead.DbOperation;
+import com.threembank.infrastructure.persistence.token.TokenWriter;
+import com.threembank.infrastructure.security.jwt.TokenDigest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 public class TokenRepositoryImpl implements TokenRepository {
-    private final TokenJpaRepository repository;
-    private final TokenMapper mapper;
+    private static final String ROTATE = """
+            update tokens t set revoked = true
+            from users u
+            where t.token_digest = ? and not t.revoked and t.expire_at > ?
+              and u.id = t.user_id and u.token_epoch = t.token_epoch
+            returning t.user_id, t.token_epoch, t.expire_at""";
 
-    @Override
-    public void save(Token token) {
-           repository.save(mapper.toEntity(token));
-    }
+    private final TokenWriter writer;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
-    public Optional<Token> findByToken(String token) {
-        return repository.findByToken(token).map(mapper::toUserToken);
-    }
-
-    @Override
-    public void revoke(Token token) {
-        repository.findByToken(token.getRefreshToken())
-                .ifPresent(entity -> {
-                    entity.setRevoked(true);
-                    repository.save(entity);
-                });
+    public void save(Token token) {
+        writer.write(token);
     }
 
-    @Transactional
+    /**
+     * A single conditional {@code UPDATE ... RETURNING}: one round trip, and the row lock makes a concurrent rotation
+     * of the same token see it already revoked. The join on {@code users} rejects tokens of an epoch ended by logout.
+     */
+    @Bulkhead(DbOperation.WRITE)
     @Override
-    public void revokeAll(UUID userId) {
-        repository.revokeAllById(userId);
+    public Optional<Token> rotate(String refreshToken) {
+        return jdbcTemplate.query(ROTATE, (rs, rowNum) -> Token.builder()
+                                .withRefreshToken(refreshToken)
+                                .withUserId(rs.getObject(1, UUID.class))
+                                .withEpoch(rs.getLong(2))
+                                .withExpiresAt(rs.getTimestamp(3).toInstant())
+                                .withRevoked(true)
+                                .build(),
+                        TokenDigest.of(refreshToken), Timestamp.from(Instant.now()))
+                .stream()
+                .findFirst();
     }
 }
@@ -2,11 +2,23 @@ package com.threembank.infrastructure.persistence.repository;
 
 import com.threembank.domain.entity.User;
 import com.threembank.domain.repository.UserRepository;
+import com.threembank.domain.valueobject.Role;
+import com.threembank.domain.valueobject.TokenRevocation;
+import com.threembank.domain.valueobject.UserClaims;
+import com.threembank.domain.valueobject.UserCredential;
+import com.threembank.infrastructure.persistence.bulkhead.Bulkhead;
+import com.threembank.infrastructure.persistence.bulkhead.DbOperation;
 import com.threembank.infrastructure.persistence.mapper.UserMapper;
 import com.threembank.infrastructure.persistence.repository.jpa.UserJpaRepository;
+import com.threembank.infrastructure.persistence.routing.ReadYourWritesTracker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,25 +28,104 @@ public class UserRepositoryImpl implements UserRepository {
 
     private final UserJpaRepository repository;
     private final UserMapper userMapper;
+    private final ReadYourWritesTracker tracker;
 
+    @Bulkhead(DbOperation.READ)
+    @Transactional(readOnly = true)
     @Override
     public boolean exists(String username) {
-        return repository.existsByEmail(username);
+        return tracker.read(key(username), () -> repository.existsByEmail(username));
     }
 
+    @Bulkhead(DbOperation.READ)
+    @Transactional(readOnly = true)
     @Override
     public Optional<User> findByUsername(String username) {
-        return repository.findByEmail(username).map(userMapper::toDto);
+        return tracker.read(key(username), () -> repository.findByEmail(username).map(userMapper::toDto));
     }
 
+    @Bulkhead(DbOperation.READ)
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<UserCredential> findCredentialByUsername(String username) {
+        var rows = tracker.read(key(username), () -> repository.findCredentialByEmail(username));
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        var roles = EnumSet.noneOf(Role.class);
+        for (var row : rows) {
+            if (row.role() != null) {
+                roles.add(row.role());
+            }
+        }
+        var first = rows.getFirst();
+        return Optional.of(new UserCredential(first.id(), first.email(), first.password(), roles, first.epoch()));
+    }
+
+    @Bulkhead(DbOperation.READ)
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<UserClaims> findClaimsById(UUID id) {
+        var rows = tracker.read(key(id), () -> repository.findClaimsById(id));
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        var roles = EnumSet.noneOf(Role.class);
+        for (var row : rows) {
+            if (row.role() != null) {
+                roles.add(row.role());
+            }
+        }
+        var first = rows.getFirst();
+        return Optional.of(new UserClaims(first.id(), first.email(), roles));
+    }
+
+    @Bulkhead(DbOperation.READ)
+    @Transactional(readOnly = true)
     @Override
     public Optional<User> findById(UUID id) {
-        return repository.findById(id).map(userMapper::toDto);
+        return tracker.read(key(id), () -> repository.findById(id).map(userMapper::toDto));
     }
 
+    @Bulkhead(DbOperation.WRITE)
     @Override
     public void save(User user) {
         user.isValid();
         userMapper.toDto(repository.save(userMapper.toEntity(user)));
+        tracker.written(key(user.getEmail()));
+        if (user.getId() != null) {
+            tracker.written(key(user.getId()));
+        }
+    }
+
+    @Bulkhead(DbOperation.WRITE)
+    @Transactional
+    @Override
+    public long revokeTokens(UUID id, Instant revokedAt) {
+        repository.revokeTokens(id, revokedAt);
+        tracker.written(key(id));
+        return repository.findTokenEpochById(id);
+    }
+
+    @Bulkhead(DbOperation.READ)
+    @Override
+    public List<TokenRevocation> findTokenRevocationsSince(Instant since) {
+        return repository.findTokenRevocationsSince(since);
+    }
+
+    @Bulkhead(DbOperation.WRITE)
+    @Transactional
+    @Override
+    public void updatePassword(UUID id, String password) {
+        repository.updatePassword(id, password, LocalDateTime.now());
+        tracker.written(key(id));
+    }
+
+    private static String key(String username) {
+        return "user:" + username;
+    }
+
+    private static String key(UUID id) {
+        return "user-id:" + id;
     }
 }
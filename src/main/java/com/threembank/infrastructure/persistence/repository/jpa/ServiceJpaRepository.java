@@ -2,8 +2,16 @@ package com.threembank.infrastructure.persistence.repository.jpa;
 
 import com.eleodorodev.specification.DynamicRepository;
 import com.threembank.infrastructure.persistence.entity.ServiceEntity;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Repository
 public interface ServiceJpaRepository extends DynamicRepository<ServiceEntity, String> {
+
+    @Query("select s.clientId from ServiceEntity s where s.clientId in :clientIds")
+    Set<String> findExistingIds(@Parameter(name = "clientIds") Collection<String> clientIds);
 }
@@ -0,0 +1,11 @@
+package com.threembank.infrastructure.persistence.repository.jpa;
+
+import com.threembank.domain.valueobject.Role;
+
+import java.util.UUID;
+
+/**
+ * One row of the credential query: the user columns repeated for each role, {@code role} is null for a user without roles.
+ */
+public record UserCredentialRow(UUID id, String email, String password, long epoch, Role role) {
+}
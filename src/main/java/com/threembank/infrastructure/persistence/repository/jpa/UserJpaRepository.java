@@ -1,9 +1,16 @@
 package com.threembank.infrastructure.persistence.repository.jpa;
 
 import com.eleodorodev.specification.DynamicRepository;
+import com.threembank.domain.valueobject.TokenRevocation;
 import com.threembank.infrastructure.persistence.entity.UserEntity;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +19,28 @@ public interface UserJpaRepository extends DynamicRepository<UserEntity, UUID> {
     Optional<UserEntity> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    @Query("select new com.threembank.infrastructure.persistence.repository.jpa.UserCredentialRow(u.id, u.email, c.password, u.tokenEpoch, r) " +
+            "from UserEntity u join u.userCredential c left join u.roles r where u.email = :email")
+    List<UserCredentialRow> findCredentialByEmail(@Parameter(name = "email") String email);
+
+    @Query("select new com.threembank.infrastructure.persistence.repository.jpa.UserClaimsRow(u.id, u.email, r) " +
+            "from UserEntity u left join u.roles r where u.id = :id")
+    List<UserClaimsRow> findClaimsById(@Parameter(name = "id") UUID id);
+
+    @Modifying
+    @Query("update UserEntity u set u.tokensRevokedAt = :revokedAt, u.tokenEpoch = u.tokenEpoch + 1 where u.id = :id")
+    void revokeTokens(@Parameter(name = "id") UUID id, @Parameter(name = "revokedAt") Instant revokedAt);
+
+    @Query("select u.tokenEpoch from UserEntity u where u.id = :id")
+    long findTokenEpochById(@Parameter(name = "id") UUID id);
+
+    @Modifying
+    @Query("update CredentialEntity c set c.password = :password, c.lastModifiedAt = :modifiedAt where c.userId = :id")
+    void updatePassword(@Parameter(name = "id") UUID id, @Parameter(name = "password") String password,
+                        @Parameter(name = "modifiedAt") LocalDateTime modifiedAt);
+
+    @Query("select new com.threembank.domain.valueobject.TokenRevocation(u.id, u.tokensRevokedAt, u.tokenEpoch) " +
+            "from UserEntity u where u.tokensRevokedAt > :since")
+    List<TokenRevocation> findTokenRevocationsSince(@Parameter(name = "since") Instant since);
 }
\ No newline at end of file
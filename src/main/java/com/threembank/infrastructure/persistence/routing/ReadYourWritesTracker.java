@@ -0,0 +1,59 @@
+package com.threembank.infrastructure.persistence.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.threembank.infrastructure.persistence.config.properties.PersistenceProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * EN: Remembers the keys (user e-mails and ids, client ids) written by this instance during
+ * {@code read-your-writes-window}, so a read of the same key right after the write (login right after registration,
+ * a refresh right after logout) goes to the primary instead of a replica that may not have replayed it yet.
+ * Repositories call {@link #written} after a write and wrap reads in {@link #read}; the {@link ReplicaRoutingDataSource}
+ * checks {@link #isPrimaryRequired()} when the read-only connection is opened. Writes made by other instances are
+ * covered by the replica lag limit of {@link ReplicaLagMonitor} only. Without replicas this has no effect.
+ * <br><br>
+ * PT-BR: Guarda as chaves (e-mails e ids de usuários, client ids) gravadas por esta instância durante
+ * {@code read-your-writes-window}, para que a leitura da mesma chave logo após a escrita (login logo após o cadastro,
+ * refresh logo após o logout) vá ao primário e não a uma réplica que talvez ainda não a tenha aplicado.
+ * Os repositórios chamam {@link #written} após uma escrita e envolvem as leituras em {@link #read}; o
+ * {@link ReplicaRoutingDataSource} consulta {@link #isPrimaryRequired()} ao abrir a conexão somente leitura. Escritas de
+ * outras instâncias são cobertas apenas pelo limite de atraso do {@link ReplicaLagMonitor}. Sem réplicas, não tem efeito.
+ */
+@Component
+public class ReadYourWritesTracker {
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> written;
+
+    public ReadYourWritesTracker(PersistenceProperties properties) {
+        this.written = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(properties.getReadYourWritesWindow())
+                .build();
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public void written(String key) {
+        if (key != null) {
+            written.put(key, Boolean.TRUE);
+        }
+    }
+
+    public <T> T read(String key, Supplier<T> query) {
+        if (key == null || written.getIfPresent(key) == null || isPrimaryRequired()) {
+            return query.get();
+        }
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.threembank.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * EN: Measures the replay lag of each read replica and publishes the replicas that may serve reads: reachable and no
+ * more than {@code max-lag} behind the primary. Each check reads the primary's current WAL position first; a replica
+ * that has replayed up to it has no lag, even if the primary has been idle, and one that has not is as far behind as
+ * its last replayed transaction. A replica that stopped streaming therefore falls out of rotation once the primary
+ * moves on, and reads go back to the primary. If the primary cannot be reached, the last result is kept. Lags are
+ * published as {@code db.replica.lag} (seconds, tagged by replica index). The monitor owns the replica pools and closes
+ * them when it is closed.
+ * <br><br>
+ * PT-BR: Mede o atraso de replay de cada réplica de leitura e publica as réplicas que podem atender leituras:
+ * alcançáveis e no máximo {@code max-lag} atrás do primário. Cada verificação lê antes a posição atual do WAL no
+ * primário; uma réplica que já aplicou até ela não tem atraso, mesmo com o primário ocioso, e uma que não aplicou está
+ * atrasada desde a última transação aplicada. Assim, uma réplica que parou de receber o WAL sai da rotação assim que o
+ * primário avança, e as leituras voltam ao primário. Se o primário não responde, o último resultado é mantido. Os
+ * atrasos são publicados em {@code db.replica.lag} (segundos, com a tag do índice da réplica). O monitor é dono dos
+ * pools das réplicas e os fecha ao ser fechado.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+    private static final String PRIMARY_LSN = "select pg_current_wal_lsn()::text";
+    private static final String LAG = """
+            select case when pg_last_wal_replay_lsn() >= ?::pg_lsn then 0
+                        else extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000 end""";
+    private static final long UNREACHABLE = Long.MAX_VALUE;
+
+    @Getter
+    private final List<DataSource> replicas;
+    private final JdbcTemplate primary;
+    private final List<JdbcTemplate> templates;
+    private final long maxLagMillis;
+    private final AtomicLongArray lagMillis;
+    private volatile Integer[] healthy = new Integer[0];
+
+    public ReplicaLagMonitor(DataSource primary, List<DataSource> replicas, Duration maxLag, MeterRegistry registry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = List.copyOf(replicas);
+        this.templates = replicas.stream().map(JdbcTemplate::new).toList();
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagMillis = new AtomicLongArray(replicas.size());
+        for (var i = 0; i < replicas.size(); i++) {
+            var index = i;
+            lagMillis.set(i, UNREACHABLE);
+            Gauge.builder("db.replica.lag", () -> lagSeconds(index))
+                    .tag("replica", String.valueOf(i))
+                    .baseUnit("seconds")
+                    .register(registry);
+        }
+        check();
+    }
+
+    public Integer[] healthyReplicas() {
+        return healthy;
+    }
+
+    @Scheduled(fixedDelayString = "${services.persistence.read-replicas.lag-check-interval:PT5S}")
+    public void check() {
+        String primaryLsn;
+        try {
+            primaryLsn = primary.queryForObject(PRIMARY_LSN, String.class);
+        } catch (RuntimeException e) {
+            log.warn("Cannot read the primary WAL position, keeping the last replica lags: {}", e.getMessage());
+            return;
+        }
+        for (var i = 0; i < templates.size(); i++) {
+            try {
+                var lag = templates.get(i).queryForObject(LAG, Number.class, primaryLsn);
+                lagMillis.set(i, lag == null ? UNREACHABLE : lag.longValue());
+            } catch (RuntimeException e) {
+                if (lagMillis.get(i) != UNREACHABLE) {
+                    log.warn("Read replica {} is unreachable, reads go to the other replicas or the primary: {}", i, e.getMessage());
+                }
+                lagMillis.set(i, UNREACHABLE);
+            }
+        }
+        healthy = IntStream.range(0, templates.size())
+                .filter(i -> lagMillis.get(i) <= maxLagMillis)
+                .boxed()
+                .toArray(Integer[]::new);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (var replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private double lagSeconds(int index) {
+        var lag = lagMillis.get(index);
+        return lag == UNREACHABLE ? Double.NaN : lag / 1000.0;
+    }
+}
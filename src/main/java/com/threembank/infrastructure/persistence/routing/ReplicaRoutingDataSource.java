@@ -0,0 +1,49 @@
+package com.threembank.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * EN: Read-only side of the {@code LazyConnectionDataSourceProxy}: spreads read-only connections round-robin over the
+ * replicas that {@link ReplicaLagMonitor} reports as caught up, and falls back to the primary when none is, or when
+ * {@link ReadYourWritesTracker} requires it.
+ * <br><br>
+ * PT-BR: Lado somente leitura do {@code LazyConnectionDataSourceProxy}: distribui as conexões somente leitura em
+ * round-robin entre as réplicas que o {@link ReplicaLagMonitor} informa como em dia, e volta ao primário quando nenhuma
+ * está, ou quando o {@link ReadYourWritesTracker} o exige.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor monitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReplicaLagMonitor monitor) {
+        this.monitor = monitor;
+        var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, primary);
+        for (var i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadYourWritesTracker.isPrimaryRequired()) {
+            return PRIMARY;
+        }
+        var healthy = monitor.healthyReplicas();
+        if (healthy.length == 0) {
+            return PRIMARY;
+        }
+        return healthy[Math.floorMod(next.getAndIncrement(), healthy.length)];
+    }
+}
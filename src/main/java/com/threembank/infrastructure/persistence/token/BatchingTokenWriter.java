@@ -0,0 +1,217 @@
+package com.threembank.infrastructure.persistence.token;
+
+import com.threembank.domain.entity.Token;
+import com.threembank.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link TokenWriter} that coalesces tokens written concurrently into one batched transaction.
+ * <p>
+ * A single background thread takes the queued tokens, waits up to {@code window} for more (up to {@code maxBatch}),
+ * and hands them to {@link SynchronousTokenWriter#writeAll(List)}. In {@link TokenWriteMode#GROUP_COMMIT} the caller
+ * waits up to {@code timeout} for the commit of its batch and gets its failure; in {@link TokenWriteMode#WRITE_BEHIND}
+ * it returns once the token is queued. When the queue is full the token is written on the caller thread instead.
+ * <p>
+ * When a batch fails, its tokens are written again one at a time, so a single bad row (a constraint violation, say)
+ * fails only its own caller; a batch rejected by the database bulkhead is failed as a whole rather than retried. Any
+ * other throwable, errors included, fails the batch and leaves the background thread running.
+ * <p>
+ * The background thread is started by {@link #start()}. {@link #close()} stops accepting tokens (later writes go
+ * straight to the database), writes what is still queued and waits for the background thread, so queued tokens are not
+ * lost on a graceful shutdown. Offers to the queue and the switch to stopped are guarded by one lock, so a token is
+ * either queued before the switch, and written, or written directly. If the background thread is interrupted, it stops
+ * accepting tokens the same way and fails every token it still holds or finds queued.
+ */
+@Slf4j
+public class BatchingTokenWriter implements TokenWriter, AutoCloseable {
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final SynchronousTokenWriter delegate;
+    private final boolean awaitCommit;
+    private final long windowNanos;
+    private final int maxBatch;
+    private final Duration timeout;
+    private final BlockingQueue<Pending> queue;
+    private final DistributionSummary batchSizes;
+    private final ReadWriteLock accepting = new ReentrantReadWriteLock();
+    private Thread worker;
+    private volatile boolean running = true;
+
+    public BatchingTokenWriter(SynchronousTokenWriter delegate, TokenWriteMode mode, Duration window, int maxBatch,
+                               int queueCapacity, Duration timeout, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.awaitCommit = mode != TokenWriteMode.WRITE_BEHIND;
+        this.windowNanos = window.toNanos();
+        this.maxBatch = maxBatch;
+        this.timeout = timeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSizes = DistributionSummary.builder("tokens.write.batch.size").register(registry);
+        registry.gauge("tokens.write.queue", queue, BlockingQueue::size);
+    }
+
+    public synchronized void start() {
+        if (worker == null) {
+            worker = Thread.ofPlatform().name("token-writer").daemon().start(this::run);
+        }
+    }
+
+    @Override
+    public void write(Token token) {
+        var pending = new Pending(token, new CompletableFuture<>());
+        if (!offer(pending)) {
+            delegate.write(token);
+            return;
+        }
+        if (awaitCommit) {
+            await(pending.committed());
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        stopAccepting();
+        Thread started;
+        synchronized (this) {
+            started = worker;
+        }
+        if (started != null) {
+            started.join(timeout.toMillis() * 5);
+        }
+        var remaining = new ArrayList<Pending>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    private boolean offer(Pending pending) {
+        var lock = accepting.readLock();
+        lock.lock();
+        try {
+            return running && queue.offer(pending);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void stopAccepting() {
+        var lock = accepting.writeLock();
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        var batch = new ArrayList<Pending>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            batch.clear();
+            try {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - batch.size());
+                var deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatch && running) {
+                    var next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatch - batch.size());
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abandon(batch);
+                return;
+            } catch (Throwable e) {
+                log.error("Token writer failed to flush {} refresh tokens", batch.size(), e);
+                batch.forEach(pending -> pending.committed().completeExceptionally(e));
+            }
+        }
+    }
+
+    /**
+     * Stops accepting tokens and fails the batch in hand and everything still queued, so no caller is left waiting on a
+     * thread that is gone.
+     */
+    private void abandon(List<Pending> batch) {
+        stopAccepting();
+        queue.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+        log.error("Token writer interrupted with {} refresh tokens pending", batch.size());
+        var error = new IllegalStateException("The token writer was interrupted");
+        batch.forEach(pending -> fail(pending, error));
+    }
+
+    private void flush(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        try {
+            delegate.writeAll(batch.stream().map(Pending::token).toList());
+            batch.forEach(pending -> pending.committed().complete(null));
+        } catch (ServiceOverloadedException e) {
+            batch.forEach(pending -> fail(pending, e));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.getFirst(), e);
+                return;
+            }
+            log.warn("Batch insert of {} refresh tokens failed, retrying them one by one", batch.size(), e);
+            for (var pending : batch) {
+                try {
+                    delegate.write(pending.token());
+                    pending.committed().complete(null);
+                } catch (RuntimeException rowError) {
+                    fail(pending, rowError);
+                }
+            }
+        }
+    }
+
+    private void fail(Pending pending, RuntimeException e) {
+        if (!awaitCommit) {
+            log.error("Lost a refresh token: insert failed", e);
+        }
+        pending.committed().completeExceptionally(e);
+    }
+
+    private void await(CompletableFuture<Void> committed) {
+        try {
+            committed.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceOverloadedException("Token persistence is saturated", RETRY_AFTER);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the token commit", e);
+        }
+    }
+
+    private record Pending(Token token, CompletableFuture<Void> committed) {
+    }
+}
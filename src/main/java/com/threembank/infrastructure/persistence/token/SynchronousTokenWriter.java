@@ -0,0 +1,41 @@
+package com.threembank.infrastructure.persistence.token;
+
+import com.threembank.domain.entity.Token;
+import com.threembank.infrastructure.persistence.bulkhead.DatabaseBulkhead;
+import com.threembank.infrastructure.persistence.bulkhead.DbOperation;
+import com.threembank.infrastructure.persistence.entity.UserEntity;
+import com.threembank.infrastructure.persistence.mapper.TokenMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * {@link TokenWriter} that inserts on the caller thread. The user is attached as an uninitialized reference, so the
+ * insert never selects the user row. With {@code hibernate.jdbc.batch_size} and the pooled {@code tokens_seq}, the
+ * tokens of {@link #writeAll(List)} go out as one JDBC batch with one sequence call per 50 ids. Each transaction runs
+ * under a {@link DbOperation#WRITE} permit of the {@link DatabaseBulkhead}.
+ */
+@RequiredArgsConstructor
+public class SynchronousTokenWriter implements TokenWriter {
+    private final EntityManager entityManager;
+    private final TokenMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseBulkhead bulkhead;
+
+    @Override
+    public void write(Token token) {
+        writeAll(List.of(token));
+    }
+
+    public void writeAll(List<Token> tokens) {
+        bulkhead.run(DbOperation.WRITE, () -> transactionTemplate.executeWithoutResult(status -> {
+            for (var token : tokens) {
+                var entity = mapper.toEntity(token);
+                entity.setUser(entityManager.getReference(UserEntity.class, token.getUserId()));
+                entityManager.persist(entity);
+            }
+        }));
+    }
+}
@@ -0,0 +1,163 @@
+package com.threembank.infrastructure.persistence.token;
+
+import com.threembank.infrastructure.persistence.config.properties.PersistenceProperties;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Deletes refresh tokens that can no longer be used: expired, revoked, or from a token epoch ended by logout.
+ * <p>
+ * Rows are deleted in chunks of {@code chunk-size}, walking the primary key (keyset) so every chunk is a short
+ * transaction that resumes after the last id deleted instead of rescanning from the start. The job pauses
+ * {@code pause} between chunks to leave I/O to the request path and stops after {@code max-duration}; what is left
+ * is picked up by the next run. Deletes are idempotent, so runs on several instances only overlap.
+ * <p>
+ * With {@code partitioned} (see {@code db/tokens-partitioned.sql}), {@code tokens} is range-partitioned by month of
+ * {@code expire_at} as {@code tokens_pYYYYMM}: each run creates the partitions up to the month a refresh token issued
+ * now expires in ({@code expiration-rt}), and at least {@code partitions-ahead} months ahead, then drops whole
+ * partitions that only hold expired tokens, leaving the chunked delete for revoked tokens. Rows past the last
+ * partition land in {@code tokens_default}; a new partition takes its rows out of the default one before it is attached.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "services.persistence.token-retention", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class TokenRetentionJob {
+    private static final String DELETE_CHUNK = """
+            with doomed as (
+                select t.id from tokens t join users u on u.id = t.user_id
+                where t.id > ? and (t.revoked or t.expire_at < ? or t.token_epoch <> u.token_epoch)
+                order by t.id limit ?
+            )
+            delete from tokens t using doomed d where t.id = d.id returning t.id""";
+    private static final String LIST_PARTITIONS = """
+            select c.relname from pg_inherits i
+            join pg_class c on c.oid = i.inhrelid
+            join pg_class p on p.oid = i.inhparent
+            where p.relname = 'tokens'""";
+    private static final String MOVE_FROM_DEFAULT = """
+            with moved as (
+                delete from tokens_default where expire_at >= ?::timestamptz and expire_at < ?::timestamptz returning *
+            )
+            insert into %s select * from moved""";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PersistenceProperties properties;
+    private final SecProperties secProperties;
+    private final Counter deleted;
+    private final Counter droppedPartitions;
+    private final Timer runs;
+
+    public TokenRetentionJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                             PersistenceProperties properties, SecProperties secProperties, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.secProperties = secProperties;
+        this.deleted = registry.counter("tokens.retention.deleted");
+        this.droppedPartitions = registry.counter("tokens.retention.partitions.dropped");
+        this.runs = registry.timer("tokens.retention.run");
+    }
+
+    @Scheduled(initialDelayString = "PT1M",
+            fixedDelayString = "${services.persistence.token-retention.interval:PT1H}")
+    public void purge() {
+        runs.record(() -> {
+            var now = Instant.now();
+            if (properties.isTokenRetentionPartitioned()) {
+                maintainPartitions(now);
+            }
+            var total = deleteInChunks(now);
+            log.info("Token retention deleted {} rows", total);
+        });
+    }
+
+    private long deleteInChunks(Instant now) {
+        var deadline = System.nanoTime() + properties.getTokenRetentionMaxDuration().toNanos();
+        var chunkSize = properties.getTokenRetentionChunkSize();
+        var cutoff = Timestamp.from(now);
+        var lastId = 0L;
+        var total = 0L;
+        while (System.nanoTime() < deadline) {
+            var ids = jdbcTemplate.queryForList(DELETE_CHUNK, Long.class, lastId, cutoff, chunkSize);
+            total += ids.size();
+            deleted.increment(ids.size());
+            if (ids.size() < chunkSize) {
+                break;
+            }
+            for (var id : ids) {
+                lastId = Math.max(lastId, id);
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private void maintainPartitions(Instant now) {
+        var current = YearMonth.from(now.atOffset(ZoneOffset.UTC));
+        var lastExpiring = YearMonth.from(now.plus(secProperties.getExpirationRt()).atOffset(ZoneOffset.UTC));
+        var ahead = Math.max(properties.getTokenRetentionPartitionsAhead(), current.until(lastExpiring, ChronoUnit.MONTHS));
+        for (var i = 0; i <= ahead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+        for (var name : jdbcTemplate.queryForList(LIST_PARTITIONS, String.class)) {
+            if (name.matches("tokens_p\\d{6}")
+                    && YearMonth.parse(name.substring("tokens_p".length()), PARTITION_SUFFIX).isBefore(current)) {
+                jdbcTemplate.execute("drop table if exists " + name);
+                droppedPartitions.increment();
+                log.info("Token retention dropped partition {}", name);
+            }
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        var name = partition(month);
+        if (jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, name)) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("create table %s (like tokens including defaults)".formatted(name));
+            jdbcTemplate.update(MOVE_FROM_DEFAULT.formatted(name), bound(month), bound(month.plusMonths(1)));
+            jdbcTemplate.execute("alter table tokens attach partition %s for values from ('%s') to ('%s')"
+                    .formatted(name, bound(month), bound(month.plusMonths(1))));
+        });
+        log.info("Token retention created partition {}", name);
+    }
+
+    private static String partition(YearMonth month) {
+        return "tokens_p" + month.format(PARTITION_SUFFIX);
+    }
+
+    private static String bound(YearMonth month) {
+        return month.atDay(1) + " 00:00:00+00";
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getTokenRetentionPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.threembank.infrastructure.persistence.token;
+
+/**
+ * Durability of the refresh token rows written by a {@link TokenWriter}.
+ */
+public enum TokenWriteMode {
+    /**
+     * One insert and commit per token on the caller thread.
+     */
+    SYNC,
+    /**
+     * Tokens written concurrently are inserted together in one batched transaction; the caller waits for that commit,
+     * so a token is durable before it is returned to the client.
+     */
+    GROUP_COMMIT,
+    /**
+     * Like {@link #GROUP_COMMIT}, but the caller does not wait for the commit. Tokens still queued are written on
+     * shutdown and lost if the process dies; a refresh arriving before its batch commits is rejected as unknown.
+     */
+    WRITE_BEHIND
+}
@@ -0,0 +1,11 @@
+package com.threembank.infrastructure.persistence.token;
+
+import com.threembank.domain.entity.Token;
+
+/**
+ * Inserts issued refresh tokens. The implementation and its durability are chosen by
+ * {@code services.persistence.token-writer.mode}, see {@link TokenWriteMode}.
+ */
+public interface TokenWriter {
+    void write(Token token);
+}
@@ -1,13 +1,21 @@
 package com.threembank.infrastructure.security.config;
 
 
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.threembank.infrastructure.persistence.repository.CachingRegisteredClientRepository;
 import com.threembank.infrastructure.persistence.repository.ServiceRegisteredRepository;
 import com.threembank.infrastructure.persistence.repository.jpa.ServiceJpaRepository;
+import com.threembank.infrastructure.persistence.routing.ReadYourWritesTracker;
 import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.infrastructure.security.jwt.KeyRingJwtEncoder;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import com.threembank.infrastructure.security.password.ClientSecretEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,14 +24,14 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
-import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationServerMetadataClaimNames;
+import org.springframework.security.oauth2.server.authorization.authentication.ClientSecretAuthenticationProvider;
 import org.springframework.security.oauth2.server.authorization.config.annotation.web.configurers.OAuth2AuthorizationServerConfigurer;
 import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.security.oauth2.server.authorization.token.JwtEncodingContext;
+import org.springframework.security.oauth2.server.authorization.token.OAuth2TokenCustomizer;
 import org.springframework.security.web.SecurityFilterChain;
 
-import java.util.UUID;
-
 /**
  * EN: Configuration class for the OAuth2 Authorization Server.
  * This class sets up the necessary beans and configurations for the authorization server,
@@ -41,21 +49,37 @@ public class AuthorizationServerConfig {
 
     /**
      * EN: Defines the security filter chain for the OAuth2 Authorization Server endpoints.
-     * It applies the default OAuth2 Authorization Server configurations.
+     * It applies the default OAuth2 Authorization Server configurations and points the
+     * metadata {@code jwks_uri} to the cacheable {@code /.well-known/jwks.json} endpoint.
+     * Client secrets are verified with the {@link ClientSecretEncoder} instead of the user password encoder.
      * <br<br>
      * PT-BR: Define a cadeia de filtros de segurança para os endpoints do Servidor de Autorização OAuth2.
-     * Aplica as configurações padrão do Servidor de Autorização OAuth2.
+     * Aplica as configurações padrão do Servidor de Autorização OAuth2 e aponta o
+     * {@code jwks_uri} dos metadados para o endpoint cacheável {@code /.well-known/jwks.json}.
+     * Os segredos de clientes são verificados com o {@link ClientSecretEncoder} em vez do codificador de senhas de usuários.
      *
-     * @param http The HttpSecurity to configure.
+     * @param http          The HttpSecurity to configure.
+     * @param clientSecrets The encoder of client secrets.
      * @return The configured SecurityFilterChain.
      * @throws Exception if an error occurs during configuration.
      */
     @Bean
     @Order(1)
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, ClientSecretEncoder clientSecrets) throws Exception {
         OAuth2AuthorizationServerConfigurer authorizationServerConfigurer =
                 new OAuth2AuthorizationServerConfigurer();
 
+        authorizationServerConfigurer.authorizationServerMetadataEndpoint(metadata -> metadata
+                .authorizationServerMetadataCustomizer(builder -> builder.claims(claims -> claims.put(
+                        OAuth2AuthorizationServerMetadataClaimNames.JWKS_URI,
+                        claims.get(OAuth2AuthorizationServerMetadataClaimNames.ISSUER) + "/.well-known/jwks.json"))));
+
+        authorizationServerConfigurer.clientAuthentication(clientAuthentication -> clientAuthentication
+                .authenticationProviders(providers -> providers.stream()
+                        .filter(ClientSecretAuthenticationProvider.class::isInstance)
+                        .map(ClientSecretAuthenticationProvider.class::cast)
+                        .forEach(provider -> provider.setPasswordEncoder(clientSecrets.getEncoder()))));
+
         http.securityMatcher(authorizationServerConfigurer.getEndpointsMatcher())
                 .with(authorizationServerConfigurer, Customizer.withDefaults());
 
@@ -79,64 +103,110 @@ public class AuthorizationServerConfig {
 
     /**
      * EN: Provides a repository for registered OAuth2 clients.
-     * It uses a custom implementation {@link ServiceRegisteredRepository} backed by {@link ServiceJpaRepository}.
+     * It uses a custom implementation {@link ServiceRegisteredRepository} backed by {@link ServiceJpaRepository},
+     * behind an in-memory {@link CachingRegisteredClientRepository} so client authentication does not query the database
+     * in steady state. Hit and miss counts are published under {@code oauth2.registered.clients}.
      *<br<br>
      * PT-BR: Fornece um repositório para clientes OAuth2 registrados.
-     * Utiliza uma implementação customizada {@link ServiceRegisteredRepository} suportada por {@link ServiceJpaRepository}.
+     * Utiliza uma implementação customizada {@link ServiceRegisteredRepository} suportada por {@link ServiceJpaRepository},
+     * atrás de um {@link CachingRegisteredClientRepository} em memória, para que a autenticação de clientes não consulte
+     * o banco de dados em regime permanente. Acertos e falhas do cache são publicados em {@code oauth2.registered.clients}.
      *
      * @param serviceJpaRepository The JPA repository for service entities.
+     * @param tracker              The tracker sending reads of just-written clients to the primary database.
+     * @param registry             The registry receiving the cache metrics.
      * @return The RegisteredClientRepository.
      */
     @Bean
-    public RegisteredClientRepository registeredClientRepository(ServiceJpaRepository serviceJpaRepository) {
-        return new ServiceRegisteredRepository(serviceJpaRepository);
+    public CachingRegisteredClientRepository registeredClientRepository(ServiceJpaRepository serviceJpaRepository,
+                                                                        ReadYourWritesTracker tracker,
+                                                                        MeterRegistry registry) {
+        var repository = new CachingRegisteredClientRepository(
+                new ServiceRegisteredRepository(serviceJpaRepository, tracker),
+                properties.getClientCacheMaximumSize(),
+                properties.getClientCacheTtl(),
+                properties.getClientCacheRefresh());
+        CaffeineCacheMetrics.monitor(registry, repository.getCache(), "oauth2.registered.clients");
+        return repository;
     }
 
     /**
-     * EN: Creates a JwtEncoder bean using Nimbus implementation.
-     * This encoder is used to create JWTs.
+     * EN: Creates a JwtEncoder bean backed by the {@link JwtKeyRing}.
+     * This encoder is used to create JWTs, reusing the precomputed header and signer of the key ring.
      *<br<br>
-     * PT-BR: Cria um bean JwtEncoder usando a implementação Nimbus.
-     * Este codificador é usado para criar JWTs.
+     * PT-BR: Cria um bean JwtEncoder baseado no {@link JwtKeyRing}.
+     * Este codificador é usado para criar JWTs, reutilizando o cabeçalho e o assinador pré-calculados do key ring.
      *
-     * @param source The JWKSource to use for signing JWTs.
+     * @param keyRing The key ring holding the signing material.
      * @return The JwtEncoder.
      */
     @Bean
-    public JwtEncoder jwtEncoder(JWKSource<SecurityContext> source) {
-        return new NimbusJwtEncoder(source);
+    public JwtEncoder jwtEncoder(JwtKeyRing keyRing) {
+        return new KeyRingJwtEncoder(keyRing);
     }
 
     /**
      * EN: Provides a JWKSource bean.
-     * This source provides the JWKSet containing the RSA key used for signing and verifying JWTs.
+     * This source exposes the public keys of the {@link JwtKeyRing} (active, next and retired) used for verifying JWTs.
      *<br<br>
      * PT-BR: Fornece um bean JWKSource.
-     * Esta fonte fornece o JWKSet contendo a chave RSA usada para assinar e verificar JWTs.
+     * Esta fonte expõe as chaves públicas do {@link JwtKeyRing} (ativa, próxima e aposentadas) usadas para verificar JWTs.
      *
+     * @param keyRing The key ring holding the signing material.
      * @return The JWKSource.
      */
     @Bean
-    protected JWKSource<SecurityContext> jwkSource() {
-        return ((jwkSelector, _) -> jwkSelector.select(new JWKSet(rsaKey())));
+    protected JWKSource<SecurityContext> jwkSource(JwtKeyRing keyRing) {
+        return keyRing;
     }
 
     /**
-     * EN: Creates an RSAKey bean.
-     * This key is generated using the public and private keys from {@link SecProperties}
-     * and is used for JWT operations. A unique key ID is generated for each instance.
+     * EN: Customizes the JWTs issued by the Authorization Server (client_credentials)
+     * so their header uses the configured {@link SigningAlgorithm} instead of the default RS256.
      *<br<br>
-     * PT-BR: Cria um bean RSAKey.
-     * Esta chave é gerada usando as chaves pública e privada de {@link SecProperties}
-     * e é usada para operações JWT. Um ID de chave exclusivo é gerado para cada instância.
+     * PT-BR: Customiza os JWTs emitidos pelo Servidor de Autorização (client_credentials)
+     * para que o cabeçalho use o {@link SigningAlgorithm} configurado em vez do RS256 padrão.
      *
-     * @return The RSAKey.
+     * @return The OAuth2TokenCustomizer.
      */
     @Bean
-    protected RSAKey rsaKey() {
-        return new RSAKey.Builder(properties.getPublicKey())
-                .privateKey(properties.getPrivateKey())
-                .keyID(UUID.randomUUID().toString())
-                .build();
+    public OAuth2TokenCustomizer<JwtEncodingContext> jwtTokenCustomizer() {
+        return context -> context.getJwsHeader().algorithm(properties.getAlgorithm().getJwsHeaderAlgorithm());
+    }
+
+    /**
+     * EN: Creates the {@link JwtKeyRing} bean, starting with the configured key as the active key.
+     * The JWK set, signing header and signer are precomputed and rebuilt only when the ring rotates.
+     *<br<br>
+     * PT-BR: Cria o bean {@link JwtKeyRing}, iniciando com a chave configurada como chave ativa.
+     * O JWK set, o cabeçalho de assinatura e o assinador são pré-calculados e recriados somente quando o anel rotaciona.
+     *
+     * @param signingKey The key used for signing.
+     * @return The JwtKeyRing.
+     */
+    @Bean
+    public JwtKeyRing jwtKeyRing(JWK signingKey) {
+        return new JwtKeyRing(signingKey, properties.getAlgorithm());
+    }
+
+    /**
+     * EN: Creates the signing key bean.
+     * This key is loaded from the PEM private and public keys of {@link SecProperties}
+     * according to the configured {@link SigningAlgorithm} (RS256, ES256 or EdDSA) and is used for JWT operations.
+     * The key ID is the RFC 7638 thumbprint of the key,
+     * so every instance and every restart publishes the same ID for the same key.
+     *<br<br>
+     * PT-BR: Cria o bean da chave de assinatura.
+     * Esta chave é carregada a partir das chaves PEM privada e pública de {@link SecProperties}
+     * de acordo com o {@link SigningAlgorithm} configurado (RS256, ES256 ou EdDSA) e é usada para operações JWT.
+     * O ID da chave é o thumbprint RFC 7638 da chave,
+     * assim todas as instâncias e reinicializações publicam o mesmo ID para a mesma chave.
+     *
+     * @return The JWK.
+     * @throws JOSEException if the key cannot be loaded or the thumbprint cannot be computed.
+     */
+    @Bean
+    protected JWK signingKey() throws JOSEException {
+        return properties.getAlgorithm().load(properties.getPrivateKey(), properties.getPublicKey());
     }
 }
\ No newline at end of file
@@ -1,9 +1,16 @@
 package com.threembank.infrastructure.security.config;
 
-import com.nimbusds.jose.JOSEException;
-import com.nimbusds.jose.jwk.RSAKey;
-
 import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.infrastructure.security.jwt.CachingJwtDecoder;
+import com.threembank.infrastructure.security.jwt.KeyRingJwtProcessor;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import com.threembank.infrastructure.security.jwt.revocation.RevocationAwareJwtAuthenticationConverter;
+import com.threembank.infrastructure.security.jwt.revocation.TokenRevocationRegistry;
+import com.threembank.infrastructure.security.password.CalibratedBCryptPasswordEncoder;
+import com.threembank.infrastructure.security.password.OffloadingPasswordEncoder;
+import com.threembank.infrastructure.security.password.PasswordHashingExecutor;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +24,7 @@ import org.springframework.security.config.annotation.web.configurers.HeadersCon
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
@@ -26,8 +34,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
-import java.security.interfaces.RSAPublicKey;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -59,18 +67,23 @@ public class ResourceServerConfig {
      * EN: Defines the main security filter chain for the application, ordered with higher precedence (Order 2).
      * This chain configures CSRF, CORS, authorization rules for various endpoints, session management (stateless),
      * OAuth2 resource server JWT validation, and security headers. It also enables HTTPS redirection if SSL is active.
+     * Bearer tokens revoked in the {@link TokenRevocationRegistry} (e.g. after logout) are rejected.
      * <br><br>
      * PT-BR: Define a cadeia de filtros de segurança principal para a aplicação, ordenada com maior precedência (Ordem 2).
      * Esta cadeia configura CSRF, CORS, regras de autorização para vários endpoints, gerenciamento de sessão (stateless),
      * validação JWT do servidor de recursos OAuth2 e cabeçalhos de segurança. Também habilita o redirecionamento para HTTPS se o SSL estiver ativo.
+     * Tokens revogados no {@link TokenRevocationRegistry} (ex.: após o logout) são rejeitados.
      *
      * @param http The HttpSecurity to configure.
+     * @param jwtAuthenticationConverter The converter from JWT to authentication.
+     * @param revocationRegistry The registry of revoked tokens.
      * @return The configured SecurityFilterChain.
      * @throws Exception if an error occurs during configuration.
      */
     @Bean
     @Order(2)
-    public SecurityFilterChain defaultFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain defaultFilterChain(HttpSecurity http, JwtAuthenticationConverter jwtAuthenticationConverter,
+                                                  TokenRevocationRegistry revocationRegistry) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .cors(Customizer.withDefaults())
                 .authorizeHttpRequests(authorizeRequests ->
@@ -82,13 +95,15 @@ public class ResourceServerConfig {
                                         "/refresh",
                                         "/register/user",
                                         "/actuator/**",
+                                        "/.well-known/jwks.json",
                                         "/swagger-ui/**",
                                         "/v3/api-docs/**").permitAll()
-                                .requestMatchers("/register/client").hasRole("ADMIN")
+                                .requestMatchers("/register/client", "/register/client/batch").hasRole("ADMIN")
                                 .anyRequest().permitAll()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .oauth2ResourceServer(oauth2 -> oauth2.jwt(Customizer.withDefaults()))
+                .oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtAuthenticationConverter(
+                        new RevocationAwareJwtAuthenticationConverter(jwtAuthenticationConverter, revocationRegistry))))
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .headers(headers -> headers
                         .httpStrictTransportSecurity(hsts -> hsts
@@ -126,37 +141,70 @@ public class ResourceServerConfig {
     /**
      * EN: Provides a {@link PasswordEncoder} bean that uses a delegating password encoder.
      * This allows for multiple password encoding strategies to be supported.
+     * New hashes use bcrypt with the strength calibrated at startup by {@link CalibratedBCryptPasswordEncoder};
+     * hashes with another id are still verified by the default delegating encoder and reported for upgrade.
+     * Hashing and verification run on the bounded {@link PasswordHashingExecutor}, off the request threads.
      * <br><br>
      * PT-BR: Fornece um bean {@link PasswordEncoder} que utiliza um codificador de senha delegador.
      * Isso permite que múltiplas estratégias de codificação de senha sejam suportadas.
+     * Novos hashes usam bcrypt com o strength calibrado na inicialização pelo {@link CalibratedBCryptPasswordEncoder};
+     * hashes com outro id continuam verificados pelo codificador delegador padrão e são sinalizados para atualização.
+     * A geração e a verificação dos hashes rodam no {@link PasswordHashingExecutor} limitado, fora das threads de requisição.
      *
+     * @param executor The executor dedicated to password hashing.
      * @return The PasswordEncoder.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor executor) {
+        var bcrypt = CalibratedBCryptPasswordEncoder.calibrate(properties.getPasswordHashingTarget(),
+                properties.getPasswordHashingMinStrength(), properties.getPasswordHashingMaxStrength());
+        var delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return new OffloadingPasswordEncoder(delegating, executor);
     }
 
     /**
-     * EN: Creates a {@link JwtDecoder} bean configured with the RSA public key.
+     * EN: Creates a {@link JwtDecoder} bean that verifies signatures against the public keys of the {@link JwtKeyRing}.
      * This decoder is used by the resource server to validate incoming JWTs.
-     * It ensures that the provided key's public part is an instance of {@link RSAPublicKey}.
+     * Tokens signed by a retired key keep verifying during the rotation overlap window.
+     * When the decoder cache is enabled, verified tokens are kept in a {@link CachingJwtDecoder}
+     * so repeated bearer tokens skip parsing and signature verification.
      * <br><br>
-     * PT-BR: Cria um bean {@link JwtDecoder} configurado com a chave pública RSA.
+     * PT-BR: Cria um bean {@link JwtDecoder} que verifica assinaturas com as chaves públicas do {@link JwtKeyRing}.
      * Este decodificador é usado pelo servidor de recursos para validar JWTs recebidos.
-     * Garante que a parte pública da chave fornecida seja uma instância de {@link RSAPublicKey}.
+     * Tokens assinados por uma chave aposentada continuam válidos durante a janela de sobreposição da rotação.
+     * Com o cache do decodificador habilitado, os tokens verificados ficam em um {@link CachingJwtDecoder}
+     * e tokens repetidos não são analisados nem verificados novamente.
      *
-     * @param rsaKey The RSAKey containing the public key for JWT signature verification.
+     * @param keyRing The key ring containing the keys for JWT signature verification.
      * @return The configured JwtDecoder.
-     * @throws JOSEException if an error occurs during Nimbus JOSE library operations.
-     * @throws IllegalArgumentException if the public key from {@code rsaKey} is not an instance of {@link RSAPublicKey}.
      */
     @Bean
-    public JwtDecoder jwtDecoder(RSAKey rsaKey) throws JOSEException {
-        if (!(rsaKey.toPublicKey() instanceof RSAPublicKey)) {
-            throw new IllegalArgumentException("The public key, isn't an instance of RSAPublicKey.");
+    public JwtDecoder jwtDecoder(JwtKeyRing keyRing) {
+        var decoder = new NimbusJwtDecoder(new KeyRingJwtProcessor(keyRing));
+        if (!properties.isDecoderCacheEnable()) {
+            return decoder;
         }
-        return NimbusJwtDecoder.withPublicKey((RSAPublicKey) rsaKey.toPublicKey()).build();
+        return new CachingJwtDecoder(decoder, properties.getDecoderCacheMaximumSize(), properties.getDecoderCacheTtl());
+    }
+
+    /**
+     * EN: Publishes the size, hit and miss metrics of the {@link CachingJwtDecoder} cache as {@code cache.*{cache=jwt.decoder}}.
+     * Does nothing when the decoder cache is disabled.
+     * <br><br>
+     * PT-BR: Publica as métricas de tamanho, acertos e falhas do cache do {@link CachingJwtDecoder} como {@code cache.*{cache=jwt.decoder}}.
+     * Não faz nada quando o cache do decodificador está desabilitado.
+     *
+     * @param jwtDecoder The JwtDecoder bean.
+     * @return The MeterBinder.
+     */
+    @Bean
+    public MeterBinder jwtDecoderCacheMetrics(JwtDecoder jwtDecoder) {
+        return registry -> {
+            if (jwtDecoder instanceof CachingJwtDecoder caching) {
+                CaffeineCacheMetrics.monitor(registry, caching.getCache(), "jwt.decoder");
+            }
+        };
     }
 
     /**
@@ -1,13 +1,17 @@
 package com.threembank.infrastructure.security.config.properties;
 
+import com.threembank.infrastructure.security.jwt.RefreshTokenMode;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 
@@ -18,15 +22,29 @@ public class SecProperties {
     private Cors cors = new Cors();
     private Jwt jwt = new Jwt();
     private Ssl ssl = new Ssl();
+    private PasswordHashing passwordHashing = new PasswordHashing();
+    private LoginThrottle loginThrottle = new LoginThrottle();
+    private UnknownUsernameCache unknownUsernameCache = new UnknownUsernameCache();
+    private ClientCache clientCache = new ClientCache();
+    private ClientSecret clientSecret = new ClientSecret();
+    private PasswordPolicy passwordPolicy = new PasswordPolicy();
 
-    public RSAPrivateKey getPrivateKey(){
+    public Resource getPrivateKey(){
         return jwt.getToken().getPrivateKey();
     }
 
-    public RSAPublicKey getPublicKey(){
+    public Resource getPublicKey(){
         return jwt.getToken().getPublicKey();
     }
 
+    public SigningAlgorithm getAlgorithm(){
+        return jwt.getToken().getAlgorithm();
+    }
+
+    public String getIssuer(){
+        return jwt.getToken().getIssuer();
+    }
+
     public Duration getExpirationAt(){
         return jwt.getToken().getExpirationAt();
     }
@@ -35,6 +53,146 @@ public class SecProperties {
         return jwt.getToken().getExpirationRt();
     }
 
+    public RefreshTokenMode getRefreshMode(){
+        return jwt.getToken().getRefreshMode();
+    }
+
+    public Duration getJwksMaxAge(){
+        return jwt.getJwksMaxAge();
+    }
+
+    public boolean isDecoderCacheEnable(){
+        return jwt.getDecoderCache().getEnabled();
+    }
+
+    public long getDecoderCacheMaximumSize(){
+        return jwt.getDecoderCache().getMaximumSize();
+    }
+
+    public Duration getDecoderCacheTtl(){
+        return jwt.getDecoderCache().getTtl();
+    }
+
+    public boolean isRotationEnable(){
+        return jwt.getRotation().getEnabled();
+    }
+
+    public Duration getRotationPeriod(){
+        return jwt.getRotation().getPeriod();
+    }
+
+    public Duration getRotationPrepublish(){
+        return jwt.getRotation().getPrepublish();
+    }
+
+    public Duration getRotationOverlap(){
+        return jwt.getRotation().getOverlap();
+    }
+
+    public String getRotationEncryptionKey(){
+        return jwt.getRotation().getEncryptionKey();
+    }
+
+    public int getPasswordHashingThreads(){
+        return passwordHashing.getThreads();
+    }
+
+    public int getPasswordHashingQueueCapacity(){
+        return passwordHashing.getQueueCapacity();
+    }
+
+    public Duration getPasswordHashingRetryAfter(){
+        return passwordHashing.getRetryAfter();
+    }
+
+    public Duration getPasswordHashingTarget(){
+        return passwordHashing.getTarget();
+    }
+
+    public int getPasswordHashingMinStrength(){
+        return passwordHashing.getMinStrength();
+    }
+
+    public int getPasswordHashingMaxStrength(){
+        return passwordHashing.getMaxStrength();
+    }
+
+    public int getLoginThrottleAddressCapacity(){
+        return loginThrottle.getAddress().getCapacity();
+    }
+
+    public Duration getLoginThrottleAddressRefill(){
+        return loginThrottle.getAddress().getRefill();
+    }
+
+    public int getLoginThrottleUsernameCapacity(){
+        return loginThrottle.getUsername().getCapacity();
+    }
+
+    public Duration getLoginThrottleUsernameRefill(){
+        return loginThrottle.getUsername().getRefill();
+    }
+
+    public long getLoginThrottleMaxKeys(){
+        return loginThrottle.getMaxKeys();
+    }
+
+    public long getUnknownUsernameCacheMaximumSize(){
+        return unknownUsernameCache.getMaximumSize();
+    }
+
+    public Duration getUnknownUsernameCacheTtl(){
+        return unknownUsernameCache.getTtl();
+    }
+
+    public long getClientCacheMaximumSize(){
+        return clientCache.getMaximumSize();
+    }
+
+    public Duration getClientCacheTtl(){
+        return clientCache.getTtl();
+    }
+
+    public Duration getClientCacheRefresh(){
+        return clientCache.getRefresh();
+    }
+
+    public String getClientSecretPepper(){
+        return clientSecret.getPepper();
+    }
+
+    public int getPasswordPolicyMinLength(){
+        return passwordPolicy.getMinLength();
+    }
+
+    public int getPasswordPolicyMaxLength(){
+        return passwordPolicy.getMaxLength();
+    }
+
+    public boolean isPasswordPolicyRequireLowercase(){
+        return passwordPolicy.getRequireLowercase();
+    }
+
+    public boolean isPasswordPolicyRequireUppercase(){
+        return passwordPolicy.getRequireUppercase();
+    }
+
+    public boolean isPasswordPolicyRequireDigit(){
+        return passwordPolicy.getRequireDigit();
+    }
+
+    public boolean isPasswordPolicyRequireSpecial(){
+        return passwordPolicy.getRequireSpecial();
+    }
+
+    public String getPasswordPolicySpecialCharacters(){
+        return passwordPolicy.getSpecialCharacters();
+    }
+
+    public Path getPasswordPolicyBreachedFilter(){
+        return passwordPolicy.getBreachedFilter();
+    }
+
     public List<String> getAllowedOrigins(){
         return cors.getAllowedOrigins();
     }
@@ -100,20 +258,114 @@ public class SecProperties {
         private Long maxAge;
     }
 
+    @Getter
+    @Setter
+    static class PasswordHashing {
+        private Integer threads = 0;
+        private Integer queueCapacity = 64;
+        private Duration retryAfter = Duration.ofSeconds(1);
+        private Duration target = Duration.ofMillis(100);
+        private Integer minStrength = 10;
+        private Integer maxStrength = 14;
+    }
+
+    @Getter
+    @Setter
+    static class LoginThrottle {
+        private Bucket address = new Bucket(20, Duration.ofSeconds(3));
+        private Bucket username = new Bucket(5, Duration.ofSeconds(12));
+        private Long maxKeys = 100_000L;
+    }
+
+    @Getter
+    @Setter
+    static class PasswordPolicy {
+        private Integer minLength = 12;
+        private Integer maxLength = 128;
+        private Boolean requireLowercase = true;
+        private Boolean requireUppercase = true;
+        private Boolean requireDigit = true;
+        private Boolean requireSpecial = true;
+        private String specialCharacters = "@#$%^&+=!";
+        private Path breachedFilter;
+    }
+
+    @Getter
+    @Setter
+    static class UnknownUsernameCache {
+        private Long maximumSize = 100_000L;
+        private Duration ttl = Duration.ofSeconds(5);
+    }
+
+    @Getter
+    @Setter
+    static class ClientCache {
+        private Long maximumSize = 1_000L;
+        private Duration ttl = Duration.ofMinutes(10);
+        private Duration refresh = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    static class ClientSecret {
+        private String pepper;
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    static class Bucket {
+        private Integer capacity;
+        private Duration refill;
+    }
+
     @Getter
     @Setter
     static class Jwt {
         private Token token = new Token();
+        private Rotation rotation = new Rotation();
+        private DecoderCache decoderCache = new DecoderCache();
+        private Revocation revocation = new Revocation();
+        private Duration jwksMaxAge = Duration.ofDays(1);
+    }
+
+    @Getter
+    @Setter
+    static class Revocation {
+        private Duration pollInterval = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    static class DecoderCache {
+        private Boolean enabled = true;
+        private Long maximumSize = 10_000L;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    static class Rotation {
+        private Boolean enabled = false;
+        private Duration period = Duration.ofDays(30);
+        private Duration prepublish = Duration.ofDays(2);
+        private Duration overlap = Duration.ofDays(1);
+        private Duration checkInterval = Duration.ofMinutes(1);
+        private String encryptionKey;
     }
 
 
     @Setter
     @Getter
     static class Token {
-        private RSAPrivateKey privateKey;
-        private RSAPublicKey publicKey;
+        private Resource privateKey;
+        private Resource publicKey;
+        private SigningAlgorithm algorithm = SigningAlgorithm.RS256;
+        private String issuer;
         private Duration expirationAt;
         private Duration expirationRt;
+        private RefreshTokenMode refreshMode = RefreshTokenMode.JWT;
 
     }
 }
@@ -0,0 +1,64 @@
+package com.threembank.infrastructure.security.crypto;
+
+import com.threembank.shared.exception.GenerateException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+/**
+ * EN: Creates the {@link MessageDigest} and {@link Mac} prototypes that the hot paths clone per call.
+ * A clone copies the provider lookup and, for a {@link Mac}, the precomputed key pads. It is cheaper than
+ * {@code getInstance}, and unlike a {@link ThreadLocal} instance it is not rebuilt when every request runs on a new
+ * virtual thread. Prototypes are checked for clone support when they are created, so an unsupported provider fails
+ * at startup rather than on a request. A prototype is never used directly, only copied.
+ * <br><br>
+ * PT-BR: Cria os protótipos de {@link MessageDigest} e {@link Mac} que os caminhos críticos clonam a cada chamada.
+ * O clone copia a busca do provedor e, para um {@link Mac}, os pads da chave já calculados. Ele é mais barato que
+ * {@code getInstance} e, ao contrário de uma instância em {@link ThreadLocal}, não é recriado quando cada requisição
+ * roda em uma nova virtual thread. O suporte a clone é verificado na criação do protótipo, então um provedor sem
+ * suporte falha na inicialização e não em uma requisição. Um protótipo nunca é usado diretamente, apenas copiado.
+ */
+public final class CryptoPrototypes {
+
+    private CryptoPrototypes() {
+    }
+
+    public static MessageDigest digest(String algorithm) {
+        try {
+            var prototype = MessageDigest.getInstance(algorithm);
+            prototype.clone();
+            return prototype;
+        } catch (GeneralSecurityException | CloneNotSupportedException e) {
+            throw new GenerateException("%s is not available".formatted(algorithm), e);
+        }
+    }
+
+    public static Mac mac(String algorithm, byte[] key) {
+        try {
+            var prototype = Mac.getInstance(algorithm);
+            prototype.init(new SecretKeySpec(key, algorithm));
+            prototype.clone();
+            return prototype;
+        } catch (GeneralSecurityException | CloneNotSupportedException e) {
+            throw new GenerateException("%s is not available".formatted(algorithm), e);
+        }
+    }
+
+    public static MessageDigest copy(MessageDigest prototype) {
+        try {
+            return (MessageDigest) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new GenerateException("%s is not available".formatted(prototype.getAlgorithm()), e);
+        }
+    }
+
+    public static Mac copy(Mac prototype) {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new GenerateException("%s is not available".formatted(prototype.getAlgorithm()), e);
+        }
+    }
+}
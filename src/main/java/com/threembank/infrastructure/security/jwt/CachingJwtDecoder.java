@@ -0,0 +1,75 @@
+package com.threembank.infrastructure.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.Getter;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * {@link JwtDecoder} that keeps verified {@link Jwt}s so a bearer token presented repeatedly is parsed and its
+ * signature verified only once.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token, bounded by {@code maximumSize} and expire at the token
+ * {@code exp} or after {@code ttl}, whichever comes first. The {@code ttl} bound keeps tokens signed by a pruned key
+ * from outliving the rotation for long. Expiry is checked again on every hit, and tokens without {@code exp} are never
+ * cached. Hit and miss counts are recorded for {@code CaffeineCacheMetrics}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+    private final JwtDecoder delegate;
+    @Getter
+    private final Cache<ByteBuffer, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilExpiresAt(ttl))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var key = ByteBuffer.wrap(TokenDigest.of(token));
+        var jwt = cache.getIfPresent(key);
+        if (jwt != null) {
+            if (jwt.getExpiresAt().isAfter(Instant.now())) {
+                return jwt;
+            }
+            cache.invalidate(key);
+        }
+        jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private record UntilExpiresAt(Duration ttl) implements Expiry<ByteBuffer, Jwt> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Jwt jwt, long currentTime) {
+            var remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return (remaining.compareTo(ttl) < 0 ? remaining : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
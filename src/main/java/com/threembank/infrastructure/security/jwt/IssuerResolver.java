@@ -0,0 +1,68 @@
+package com.threembank.infrastructure.security.jwt;
+
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@code iss} claim of the tokens issued by this service.
+ * <p>
+ * When {@code services.security.jwt.token.issuer} is configured, that value is used everywhere, including outside
+ * an HTTP request (batch jobs, async workers). Otherwise the issuer is derived from the scheme, host and port of the
+ * current request, and built once per origin: later requests to the same origin reuse the cached string.
+ * Origins are taken from the {@code Host} header, so the cache is bounded and stops growing past
+ * {@value #MAX_ORIGINS} entries.
+ */
+@Component
+public class IssuerResolver {
+    private static final int MAX_ORIGINS = 64;
+
+    private final String configured;
+    private final Map<Origin, String> issuers = new ConcurrentHashMap<>();
+
+    public IssuerResolver(SecProperties properties) {
+        this.configured = StringUtils.hasText(properties.getIssuer()) ? properties.getIssuer() : null;
+    }
+
+    public String resolve() {
+        if (configured != null) {
+            return configured;
+        }
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            throw new IllegalStateException(
+                    "No HTTP request bound to the current thread; configure services.security.jwt.token.issuer");
+        }
+        return resolve(attributes.getRequest());
+    }
+
+    public String resolve(HttpServletRequest request) {
+        if (configured != null) {
+            return configured;
+        }
+        var origin = new Origin(request.getScheme(), request.getServerName(), request.getServerPort());
+        var issuer = issuers.get(origin);
+        if (issuer != null) {
+            return issuer;
+        }
+        issuer = origin.toIssuer();
+        if (issuers.size() < MAX_ORIGINS) {
+            issuers.putIfAbsent(origin, issuer);
+        }
+        return issuer;
+    }
+
+    private record Origin(String scheme, String host, int port) {
+        String toIssuer() {
+            var defaultPort = port < 0
+                    || ("http".equals(scheme) && port == 80)
+                    || ("https".equals(scheme) && port == 443);
+            return defaultPort ? scheme + "://" + host : scheme + "://" + host + ":" + port;
+        }
+    }
+}
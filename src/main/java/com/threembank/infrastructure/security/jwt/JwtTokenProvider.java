@@ -4,62 +4,65 @@ import com.threembank.application.service.token.TokenResult;
 import com.threembank.application.service.token.TokenProvider;
 import com.threembank.infrastructure.security.config.properties.SecProperties;
 import com.threembank.infrastructure.security.user.BasicUserDetails;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.oauth2.jwt.JwtClaimsSet;
-import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Service;
 
-import java.net.URI;
+import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
 
 @RequiredArgsConstructor
 @Service
 public class JwtTokenProvider implements TokenProvider {
+   private static final SecureRandom RANDOM = new SecureRandom();
+   private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
    private final SecProperties properties;
-   private final HttpServletRequest request;
-   private final JwtEncoder encoder;
+   private final CompactJwtSerializer serializer;
+   private final IssuerResolver issuerResolver;
 
     @Override
     public TokenResult generate(BasicUserDetails userDetails) {
-        var now = Instant.now();
-        var uri = URI.create(request.getRequestURL().toString());
-        var issuer = "%s://%s".formatted(uri.getScheme(),uri.getAuthority());
-        var claimset = JwtClaimsSet.builder()
-                .subject(String.valueOf(userDetails.getId()))
-                .issuer(issuer)
-                .issuedAt(now)
-                .expiresAt(now.plus(properties.getExpirationAt()))
-                .claim("username",userDetails.getUsername())
-                .claim("authorities", userDetails.getAuthorities().stream()
-                        .map(GrantedAuthority::getAuthority)
-                        .toList())
-                .build();
-
-        var accessToken = encode(claimset);
-        var refreshToken = generateRefreshToken(claimset.getSubject(), issuer);
-        return new TokenResult(accessToken,refreshToken,claimset.getExpiresAt(),"Bearer");
+        return generate(userDetails, issuerResolver.resolve());
     }
 
-    private String generateRefreshToken(String subject,String issuer) {
-        Instant now = Instant.now();
-        Instant expiry = now.plus(properties.getExpirationRt());
-
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-                .issuer(issuer)
-                .issuedAt(now)
-                .expiresAt(expiry)
-                .subject(subject)
-                .claim("type", "refresh")
-                .build();
+    @Override
+    public TokenResult generate(BasicUserDetails userDetails, String issuer) {
+        var now = Instant.now();
+        var subject = String.valueOf(userDetails.getId());
+        var expiresAt = now.plus(properties.getExpirationAt());
 
-        return encode(claims);
+        var accessToken = serializer.begin()
+                .claim("jti", UUID.randomUUID().toString())
+                .claim("sub", subject)
+                .claim("iss", issuer)
+                .claim("iat", now.getEpochSecond())
+                .claim("exp", expiresAt.getEpochSecond())
+                .claim("username", userDetails.getUsername())
+                .claim("authorities", userDetails.getAuthorities(), GrantedAuthority::getAuthority)
+                .claim("epoch", userDetails.getTokenEpoch())
+                .sign();
+        var refreshExpiresAt = now.plus(properties.getExpirationRt());
+        var refreshToken = generateRefreshToken(subject, issuer, now, refreshExpiresAt, userDetails.getTokenEpoch());
+        return new TokenResult(accessToken,refreshToken,expiresAt,refreshExpiresAt,"Bearer");
     }
 
-    private String encode(JwtClaimsSet claims) {
-        return encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    private String generateRefreshToken(String subject,String issuer, Instant now, Instant expiry, long epoch) {
+        if (properties.getRefreshMode() == RefreshTokenMode.OPAQUE) {
+            var bytes = new byte[32];
+            RANDOM.nextBytes(bytes);
+            return BASE64URL.encodeToString(bytes);
+        }
+        return serializer.begin()
+                .claim("jti", UUID.randomUUID().toString())
+                .claim("iss", issuer)
+                .claim("iat", now.getEpochSecond())
+                .claim("exp", expiry.getEpochSecond())
+                .claim("sub", subject)
+                .claim("type", "refresh")
+                .claim("epoch", epoch)
+                .sign();
     }
 }
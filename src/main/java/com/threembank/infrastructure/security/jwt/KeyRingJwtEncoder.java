@@ -0,0 +1,83 @@
+package com.threembank.infrastructure.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import com.threembank.infrastructure.security.jwt.key.SigningKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+import org.springframework.util.Assert;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * {@link JwtEncoder} that signs with the precomputed header and signer of the active {@link JwtKeyRing} key
+ * instead of selecting a JWK and building a signer on every call like {@link NimbusJwtEncoder}.
+ */
+@RequiredArgsConstructor
+public class KeyRingJwtEncoder implements JwtEncoder {
+    private static final Set<String> HANDLED_HEADERS = Set.of(
+            JoseHeaderNames.ALG, JoseHeaderNames.KID, JoseHeaderNames.TYP, JoseHeaderNames.CTY);
+
+    private final JwtKeyRing keyRing;
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        Assert.notNull(parameters, "parameters cannot be null");
+        var claims = parameters.getClaims();
+        var key = keyRing.active();
+        var header = header(key, parameters.getJwsHeader());
+        var jwt = new SignedJWT(header, convert(claims));
+        try {
+            jwt.sign(key.signer());
+        } catch (JOSEException error) {
+            throw new JwtEncodingException("An error occurred while attempting to encode the Jwt: " + error.getMessage(), error);
+        }
+        return new Jwt(jwt.serialize(), claims.getIssuedAt(), claims.getExpiresAt(), header.toJSONObject(), claims.getClaims());
+    }
+
+    private JWSHeader header(SigningKey key, JwsHeader jwsHeader) {
+        if (jwsHeader == null) {
+            return key.header();
+        }
+        JwsAlgorithm algorithm = jwsHeader.getAlgorithm();
+        if (algorithm == null || !key.header().getAlgorithm().getName().equals(algorithm.getName())) {
+            throw new JwtEncodingException("Unsupported algorithm %s, the active signing key uses %s"
+                    .formatted(algorithm == null ? null : algorithm.getName(), key.header().getAlgorithm()));
+        }
+        var keyId = key.keyId();
+        if (jwsHeader.getKeyId() != null && !jwsHeader.getKeyId().equals(keyId)) {
+            throw new JwtEncodingException("Unknown key ID %s".formatted(jwsHeader.getKeyId()));
+        }
+        var builder = new JWSHeader.Builder(key.header().getAlgorithm()).keyID(keyId);
+        if (jwsHeader.getType() != null) {
+            builder.type(new JOSEObjectType(jwsHeader.getType()));
+        }
+        if (jwsHeader.getContentType() != null) {
+            builder.contentType(jwsHeader.getContentType());
+        }
+        jwsHeader.getHeaders().forEach((name, value) -> {
+            if (!HANDLED_HEADERS.contains(name)) {
+                builder.customParam(name, value);
+            }
+        });
+        return builder.build();
+    }
+
+    private static JWTClaimsSet convert(JwtClaimsSet claims) {
+        var builder = new JWTClaimsSet.Builder();
+        claims.getClaims().forEach((name, value) -> builder.claim(name, switch (value) {
+            case Instant instant -> Date.from(instant);
+            case URL url -> url.toExternalForm();
+            default -> value;
+        }));
+        return builder.build();
+    }
+}
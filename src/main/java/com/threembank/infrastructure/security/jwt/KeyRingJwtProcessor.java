@@ -0,0 +1,57 @@
+package com.threembank.infrastructure.security.jwt;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+
+import java.security.Key;
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link DefaultJWTProcessor} that verifies signatures with the keys of a {@link JwtKeyRing}, converting keys and
+ * creating verifiers through the ring's {@link SigningAlgorithm}. Nimbus' defaults only convert RSA and EC keys to
+ * JCA keys, so EdDSA tokens would otherwise find no verification key.
+ */
+public class KeyRingJwtProcessor extends DefaultJWTProcessor<SecurityContext> {
+
+    public KeyRingJwtProcessor(JwtKeyRing keyRing) {
+        var algorithm = keyRing.getAlgorithm();
+        setJWSKeySelector(new JWSVerificationKeySelector<>(algorithm.getJwsAlgorithm(), keyRing) {
+            @Override
+            public List<Key> selectJWSKeys(JWSHeader header, SecurityContext context) throws KeySourceException {
+                if (!isAllowed(header.getAlgorithm())) {
+                    return List.of();
+                }
+                var keys = new ArrayList<Key>();
+                for (var jwk : getJWKSource().get(new JWKSelector(createJWKMatcher(header)), context)) {
+                    try {
+                        keys.add(algorithm.publicKey(jwk));
+                    } catch (JOSEException error) {
+                        throw new KeySourceException(error.getMessage(), error);
+                    }
+                }
+                return keys;
+            }
+        });
+        setJWSVerifierFactory(new DefaultJWSVerifierFactory() {
+            @Override
+            public JWSVerifier createJWSVerifier(JWSHeader header, Key key) throws JOSEException {
+                if (!algorithm.getJwsAlgorithm().equals(header.getAlgorithm()) || !(key instanceof PublicKey publicKey)) {
+                    return super.createJWSVerifier(header, key);
+                }
+                return algorithm.verifier(publicKey);
+            }
+        });
+        setJWTClaimsSetVerifier((_, _) -> {});
+    }
+}
@@ -0,0 +1,24 @@
+package com.threembank.infrastructure.security.jwt;
+
+/**
+ * EN: Format of the refresh tokens issued by {@link JwtTokenProvider}.
+ * In both modes only the SHA-256 digest of the token is persisted.
+ * <br><br>
+ * PT-BR: Formato dos refresh tokens emitidos pelo {@link JwtTokenProvider}.
+ * Em ambos os modos apenas o digest SHA-256 do token é persistido.
+ */
+public enum RefreshTokenMode {
+    /**
+     * EN: Signed JWT carrying {@code sub}, {@code iss}, {@code iat}, {@code exp} and {@code type=refresh}.
+     * <br><br>
+     * PT-BR: JWT assinado contendo {@code sub}, {@code iss}, {@code iat}, {@code exp} e {@code type=refresh}.
+     */
+    JWT,
+
+    /**
+     * EN: Random 256-bit value, base64url encoded. No signature is computed.
+     * <br><br>
+     * PT-BR: Valor aleatório de 256 bits, codificado em base64url. Nenhuma assinatura é calculada.
+     */
+    OPAQUE
+}
@@ -0,0 +1,24 @@
+package com.threembank.infrastructure.security.jwt;
+
+import com.threembank.infrastructure.security.crypto.CryptoPrototypes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * SHA-256 digest of a token value, the fixed-size (32 bytes) key under which refresh tokens are stored and looked up.
+ * The raw token is never persisted.
+ */
+public final class TokenDigest {
+    private static final MessageDigest SHA_256 = CryptoPrototypes.digest("SHA-256");
+
+    private TokenDigest() {
+    }
+
+    public static byte[] of(String token) {
+        if (token == null) {
+            return null;
+        }
+        return CryptoPrototypes.copy(SHA_256).digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+}
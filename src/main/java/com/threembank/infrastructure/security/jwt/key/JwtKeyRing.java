@@ -0,0 +1,149 @@
+package com.threembank.infrastructure.security.jwt.key;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Base64URL;
+import com.threembank.shared.exception.GenerateException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * EN: Holds the keys used to sign and verify JWTs.
+ * The ring has one active key used for signing, optionally a next key that is already published
+ * but not yet signing, and retired keys that keep verifying until their overlap window ends.
+ * Every change builds a new immutable {@link Snapshot}, including the serialized public JWK set and its ETag,
+ * so readers never select keys, create signers or serialize the JWKS on the request path.
+ * <br><br>
+ * PT-BR: Mantém as chaves usadas para assinar e verificar JWTs.
+ * O anel possui uma chave ativa usada na assinatura, opcionalmente uma próxima chave já publicada
+ * mas que ainda não assina, e chaves aposentadas que continuam verificando até o fim da janela de sobreposição.
+ * Cada alteração cria um novo {@link Snapshot} imutável, incluindo o JWK set público serializado e seu ETag,
+ * assim os leitores nunca selecionam chaves, criam assinadores ou serializam o JWKS no caminho da requisição.
+ */
+public class JwtKeyRing implements JWKSource<SecurityContext> {
+    @Getter
+    private final SigningAlgorithm algorithm;
+    private volatile Snapshot snapshot;
+
+    public JwtKeyRing(JWK initial, SigningAlgorithm algorithm) {
+        this.algorithm = algorithm;
+        var now = Instant.now();
+        this.snapshot = Snapshot.of(SigningKey.of(initial, algorithm, now), now, null, List.of());
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public SigningKey active() {
+        return snapshot.active();
+    }
+
+    public Optional<SigningKey> next() {
+        return Optional.ofNullable(snapshot.next());
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        return jwkSelector.select(snapshot.jwkSet());
+    }
+
+    /**
+     * Replaces the ring with the state described by the shared {@code keys} at {@code now}, so every instance loading
+     * the same keys signs with the same active key and publishes the same JWK set: the active key is the last one
+     * whose {@code activatesAt} has passed, the next key is the one after it, and each earlier key keeps verifying
+     * until {@code overlap} after its successor activated. Nothing is rebuilt when the ring is unchanged.
+     */
+    public synchronized void load(List<StoredSigningKey> keys, Instant now, Duration overlap) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        var sorted = keys.stream().sorted(Comparator.comparing(StoredSigningKey::activatesAt)).toList();
+        var activeIndex = 0;
+        for (var i = 0; i < sorted.size(); i++) {
+            if (!sorted.get(i).activatesAt().isAfter(now)) {
+                activeIndex = i;
+            }
+        }
+        var active = sorted.get(activeIndex);
+        var next = activeIndex + 1 < sorted.size() ? sorted.get(activeIndex + 1) : null;
+        var retired = new ArrayList<RetiredKey>();
+        for (var i = 0; i < activeIndex; i++) {
+            var retiresAt = sorted.get(i + 1).activatesAt().plus(overlap);
+            if (retiresAt.isAfter(now)) {
+                retired.add(new RetiredKey(sorted.get(i).jwk(), retiresAt));
+            }
+        }
+
+        var current = snapshot;
+        if (active.keyId().equals(current.active().keyId())
+                && Objects.equals(next == null ? null : next.keyId(), current.next() == null ? null : current.next().keyId())
+                && retired.equals(current.retired())) {
+            return;
+        }
+        snapshot = Snapshot.of(signingKey(current, active), active.activatesAt(),
+                next == null ? null : signingKey(current, next), retired);
+    }
+
+    private SigningKey signingKey(Snapshot current, StoredSigningKey key) {
+        for (var known : Arrays.asList(current.active(), current.next())) {
+            if (known != null && known.keyId().equals(key.keyId())) {
+                return known;
+            }
+        }
+        return SigningKey.of(key.jwk(), algorithm, key.createdAt());
+    }
+
+    public record RetiredKey(JWK jwk, Instant retiresAt) {}
+
+    /**
+     * Immutable view of the ring.
+     *
+     * @param active      the key used for signing
+     * @param activeSince when the active key started signing
+     * @param next        the published key that will sign after the next rotation, may be {@code null}
+     * @param retired     keys that still verify but no longer sign
+     * @param jwkSet      the public keys accepted for verification
+     * @param jwks        the serialized {@code jwkSet}, served as is by the JWKS endpoint
+     * @param etag        a digest of {@code jwks}
+     */
+    public record Snapshot(SigningKey active, Instant activeSince, SigningKey next, List<RetiredKey> retired,
+                           JWKSet jwkSet, byte[] jwks, String etag) {
+
+        static Snapshot of(SigningKey active, Instant activeSince, SigningKey next, List<RetiredKey> retired) {
+            var keys = new ArrayList<JWK>();
+            keys.add(active.jwk().toPublicJWK());
+            if (next != null) {
+                keys.add(next.jwk().toPublicJWK());
+            }
+            retired.forEach(key -> keys.add(key.jwk().toPublicJWK()));
+
+            var jwkSet = new JWKSet(keys);
+            var jwks = jwkSet.toString().getBytes(StandardCharsets.UTF_8);
+            return new Snapshot(active, activeSince, next, List.copyOf(retired), jwkSet, jwks, etag(jwks));
+        }
+
+        private static String etag(byte[] jwks) {
+            try {
+                var digest = MessageDigest.getInstance("SHA-256").digest(jwks);
+                return Base64URL.encode(digest).toString();
+            } catch (NoSuchAlgorithmException error) {
+                throw new GenerateException("Unable to digest the JWK set", error);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.threembank.infrastructure.security.jwt.key;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWK;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.shared.exception.GenerateException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Rotates the {@link JwtKeyRing} through the shared {@link JwtKeyStore}: the next key is generated once, by whichever
+ * instance gets there first, and published {@code prepublish} before it activates, {@code period} after the active
+ * key did; the previous key keeps verifying for {@code overlap}. Every instance loads the ring from the store at
+ * startup and on each check, so all of them sign with the same key and serve the same JWKS.
+ * <p>
+ * On the first start the store is seeded with the key configured under {@code jwt.token}; after that the configured
+ * key is only used to build the ring before the store is read.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "services.security.jwt.rotation", name = "enabled", havingValue = "true")
+public class JwtKeyRotationScheduler {
+    private final JwtKeyRing keyRing;
+    private final JwtKeyStore store;
+    private final SecProperties properties;
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${services.security.jwt.rotation.check-interval:PT1M}")
+    public void rotate() {
+        var now = Instant.now();
+        var keys = store.locked(() -> {
+            var stored = store.load();
+            if (stored.isEmpty()) {
+                store.insert(new StoredSigningKey(keyRing.active().jwk(), now, now));
+                log.info("Seeded the signing key store with key {}", keyRing.active().keyId());
+                return store.load();
+            }
+            var published = publishNext(stored, now);
+            var deleted = deleteExpired(stored, now);
+            return published || deleted ? store.load() : stored;
+        });
+        var before = keyRing.active().keyId();
+        keyRing.load(keys, now, properties.getRotationOverlap());
+        if (!before.equals(keyRing.active().keyId())) {
+            log.info("Rotated signing key {} -> {}", before, keyRing.active().keyId());
+        }
+    }
+
+    private boolean publishNext(List<StoredSigningKey> stored, Instant now) {
+        var latest = stored.stream().max(Comparator.comparing(StoredSigningKey::activatesAt)).orElseThrow();
+        if (latest.activatesAt().isAfter(now)
+                || now.isBefore(latest.activatesAt().plus(properties.getRotationPeriod()).minus(properties.getRotationPrepublish()))) {
+            return false;
+        }
+        var rotateAt = latest.activatesAt().plus(properties.getRotationPeriod());
+        var earliest = now.plus(properties.getRotationPrepublish());
+        var next = new StoredSigningKey(generate(), now, rotateAt.isBefore(earliest) ? earliest : rotateAt);
+        store.insert(next);
+        log.info("Published next signing key {}, active from {}", next.keyId(), next.activatesAt());
+        return true;
+    }
+
+    private boolean deleteExpired(List<StoredSigningKey> stored, Instant now) {
+        var sorted = stored.stream().sorted(Comparator.comparing(StoredSigningKey::activatesAt)).toList();
+        var expired = new ArrayList<String>();
+        for (var i = 0; i + 1 < sorted.size(); i++) {
+            var successor = sorted.get(i + 1).activatesAt();
+            if (!successor.plus(properties.getRotationOverlap()).isAfter(now)) {
+                expired.add(sorted.get(i).keyId());
+            }
+        }
+        store.delete(expired);
+        return !expired.isEmpty();
+    }
+
+    private JWK generate() {
+        try {
+            return keyRing.getAlgorithm().generate();
+        } catch (JOSEException error) {
+            throw new GenerateException("Unable to generate the next signing key", error);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.threembank.infrastructure.security.jwt.key;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.shared.exception.GenerateException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Signing keys shared by every instance through the {@code jwt_signing_keys} table (see
+ * {@code db/jwt-signing-keys.sql}), so all instances sign with and publish the same keys.
+ * <p>
+ * Private keys are stored sealed with AES-256-GCM under a key derived from {@code rotation.encryption-key}, with the
+ * key ID as associated data, so a copy of the table alone does not reveal them and a sealed key cannot be moved to
+ * another row. Changes are made inside {@link #locked(Supplier)}, which serializes them across instances with a
+ * transaction-scoped Postgres advisory lock.
+ */
+@Component
+@ConditionalOnProperty(prefix = "services.security.jwt.rotation", name = "enabled", havingValue = "true")
+public class JwtKeyStore {
+    private static final String SELECT = "select kid, sealed_jwk, created_at, activates_at from jwt_signing_keys";
+    private static final String INSERT = """
+            insert into jwt_signing_keys (kid, sealed_jwk, created_at, activates_at) values (?, ?, ?, ?)
+            on conflict (kid) do nothing""";
+    private static final String DELETE = "delete from jwt_signing_keys where kid = ?";
+    private static final String LOCK = "select pg_advisory_xact_lock(hashtext('jwt_signing_keys'))";
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int MIN_ENCRYPTION_KEY_LENGTH = 32;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SecretKeySpec encryptionKey;
+
+    public JwtKeyStore(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, SecProperties properties) {
+        var secret = properties.getRotationEncryptionKey();
+        if (secret == null || secret.length() < MIN_ENCRYPTION_KEY_LENGTH) {
+            throw new IllegalStateException("services.security.jwt.rotation.encryption-key must have at least %d characters"
+                    .formatted(MIN_ENCRYPTION_KEY_LENGTH));
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.encryptionKey = new SecretKeySpec(sha256(secret.getBytes(StandardCharsets.UTF_8)), "AES");
+    }
+
+    /**
+     * Runs {@code work} in a transaction holding the key store lock: no other instance changes the keys meanwhile.
+     */
+    public <T> T locked(Supplier<T> work) {
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute(LOCK);
+            return work.get();
+        });
+    }
+
+    public List<StoredSigningKey> load() {
+        return jdbcTemplate.query(SELECT, (rs, rowNum) -> new StoredSigningKey(
+                open(rs.getString(1), rs.getBytes(2)),
+                rs.getTimestamp(3).toInstant(),
+                rs.getTimestamp(4).toInstant()));
+    }
+
+    public void insert(StoredSigningKey key) {
+        jdbcTemplate.update(INSERT, key.keyId(), seal(key.jwk()), Timestamp.from(key.createdAt()),
+                Timestamp.from(key.activatesAt()));
+    }
+
+    public void delete(Collection<String> keyIds) {
+        keyIds.forEach(keyId -> jdbcTemplate.update(DELETE, keyId));
+    }
+
+    private byte[] seal(JWK jwk) {
+        try {
+            var iv = new byte[IV_LENGTH];
+            RANDOM.nextBytes(iv);
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(jwk.getKeyID().getBytes(StandardCharsets.UTF_8));
+            var sealed = cipher.doFinal(jwk.toJSONString().getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.allocate(IV_LENGTH + sealed.length).put(iv).put(sealed).array();
+        } catch (GeneralSecurityException e) {
+            throw new GenerateException("Unable to seal signing key %s".formatted(jwk.getKeyID()), e);
+        }
+    }
+
+    private JWK open(String keyId, byte[] sealed) {
+        try {
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_BITS, sealed, 0, IV_LENGTH));
+            cipher.updateAAD(keyId.getBytes(StandardCharsets.UTF_8));
+            var json = new String(cipher.doFinal(sealed, IV_LENGTH, sealed.length - IV_LENGTH), StandardCharsets.UTF_8);
+            return JWK.parse(json);
+        } catch (GeneralSecurityException | ParseException e) {
+            throw new GenerateException("Unable to open signing key %s; check rotation.encryption-key".formatted(keyId), e);
+        }
+    }
+
+    private static byte[] sha256(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (GeneralSecurityException e) {
+            throw new GenerateException("SHA-256 is not available", e);
+        }
+    }
+}
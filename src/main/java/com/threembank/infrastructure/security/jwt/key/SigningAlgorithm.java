@@ -0,0 +1,267 @@
+package com.threembank.infrastructure.security.jwt.key;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.factories.DefaultJWSVerifierFactory;
+import com.nimbusds.jose.jwk.AsymmetricJWK;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.OctetKeyPairGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.Base64URL;
+import com.threembank.shared.exception.GenerateException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.security.converter.RsaKeyConverters;
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.spec.EdECPrivateKeySpec;
+import java.security.spec.NamedParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * EN: Signature algorithms supported for access and refresh tokens.
+ * Each algorithm knows how to load its key pair from PEM files, generate a new key for rotation
+ * and create a thread-safe signer. Key IDs are always the RFC 7638 thumbprint of the key.
+ * <br><br>
+ * PT-BR: Algoritmos de assinatura suportados para access e refresh tokens.
+ * Cada algoritmo sabe carregar seu par de chaves a partir de arquivos PEM, gerar uma nova chave para rotação
+ * e criar um assinador thread-safe. Os IDs de chave são sempre o thumbprint RFC 7638 da chave.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SigningAlgorithm {
+    /**
+     * EN: RSASSA-PKCS1-v1_5 with SHA-256 and a 2048-bit key.
+     * <br><br>
+     * PT-BR: RSASSA-PKCS1-v1_5 com SHA-256 e chave de 2048 bits.
+     */
+    RS256(JWSAlgorithm.RS256, SignatureAlgorithm.RS256, "SHA256withRSA") {
+        @Override
+        public JWK load(Resource privateKey, Resource publicKey) throws JOSEException {
+            return new RSAKey.Builder(read(publicKey, RsaKeyConverters.x509()::convert))
+                    .privateKey(read(privateKey, RsaKeyConverters.pkcs8()::convert))
+                    .keyIDFromThumbprint()
+                    .build();
+        }
+
+        @Override
+        public JWK generate() throws JOSEException {
+            return new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+        }
+
+        @Override
+        public JWSSigner signer(JWK jwk) throws JOSEException {
+            return new RSASSASigner(jwk.toRSAKey());
+        }
+
+        @Override
+        public PrivateKey privateKey(JWK jwk) throws JOSEException {
+            return jwk.toRSAKey().toPrivateKey();
+        }
+    },
+    /**
+     * EN: ECDSA with the P-256 curve and SHA-256.
+     * <br><br>
+     * PT-BR: ECDSA com a curva P-256 e SHA-256.
+     */
+    ES256(JWSAlgorithm.ES256, SignatureAlgorithm.ES256, "SHA256withECDSAinP1363Format") {
+        @Override
+        public JWK load(Resource privateKey, Resource publicKey) throws JOSEException {
+            try {
+                var factory = KeyFactory.getInstance("EC");
+                var pub = (ECPublicKey) factory.generatePublic(new X509EncodedKeySpec(pem(publicKey)));
+                var priv = (ECPrivateKey) factory.generatePrivate(new PKCS8EncodedKeySpec(pem(privateKey)));
+                if (!Curve.P_256.equals(Curve.forECParameterSpec(pub.getParams()))) {
+                    throw new IllegalArgumentException("The public key isn't a P-256 key.");
+                }
+                return new ECKey.Builder(Curve.P_256, pub)
+                        .privateKey(priv)
+                        .keyIDFromThumbprint()
+                        .build();
+            } catch (GeneralSecurityException error) {
+                throw new JOSEException("Unable to load the P-256 key pair", error);
+            }
+        }
+
+        @Override
+        public JWK generate() throws JOSEException {
+            return new ECKeyGenerator(Curve.P_256).keyIDFromThumbprint(true).generate();
+        }
+
+        @Override
+        public JWSSigner signer(JWK jwk) throws JOSEException {
+            return new ECDSASigner(jwk.toECKey());
+        }
+
+        @Override
+        public PrivateKey privateKey(JWK jwk) throws JOSEException {
+            return jwk.toECKey().toPrivateKey();
+        }
+    },
+    /**
+     * EN: EdDSA with the Ed25519 curve.
+     * <br><br>
+     * PT-BR: EdDSA com a curva Ed25519.
+     */
+    EdDSA(JWSAlgorithm.EdDSA, () -> JWSAlgorithm.EdDSA.getName(), "Ed25519") {
+        @Override
+        public JWK load(Resource privateKey, Resource publicKey) throws JOSEException {
+            try {
+                var factory = KeyFactory.getInstance("Ed25519");
+                var priv = (EdECPrivateKey) factory.generatePrivate(new PKCS8EncodedKeySpec(pem(privateKey)));
+                var encodedPublic = factory.generatePublic(new X509EncodedKeySpec(pem(publicKey))).getEncoded();
+                // X.509 SubjectPublicKeyInfo for Ed25519 ends with the 32-byte raw public key
+                var x = Arrays.copyOfRange(encodedPublic, encodedPublic.length - 32, encodedPublic.length);
+                var d = priv.getBytes().orElseThrow(() -> new JOSEException("The Ed25519 private key is not extractable"));
+                return new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(x))
+                        .d(Base64URL.encode(d))
+                        .keyIDFromThumbprint()
+                        .build();
+            } catch (GeneralSecurityException error) {
+                throw new JOSEException("Unable to load the Ed25519 key pair", error);
+            }
+        }
+
+        @Override
+        public JWK generate() throws JOSEException {
+            return new OctetKeyPairGenerator(Curve.Ed25519).keyIDFromThumbprint(true).generate();
+        }
+
+        @Override
+        public JWSSigner signer(JWK jwk) throws JOSEException {
+            return new Ed25519Signer(jwk.toOctetKeyPair());
+        }
+
+        @Override
+        public PublicKey publicKey(JWK jwk) throws JOSEException {
+            try {
+                // X.509 SubjectPublicKeyInfo header for Ed25519, followed by the 32-byte raw public key
+                var prefix = new byte[]{0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00};
+                var x = jwk.toOctetKeyPair().getDecodedX();
+                var encoded = Arrays.copyOf(prefix, prefix.length + x.length);
+                System.arraycopy(x, 0, encoded, prefix.length, x.length);
+                return KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(encoded));
+            } catch (GeneralSecurityException error) {
+                throw new JOSEException("Unable to convert the Ed25519 public key", error);
+            }
+        }
+
+        @Override
+        public JWSVerifier verifier(PublicKey key) throws JOSEException {
+            var encoded = key.getEncoded();
+            var x = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+            return new Ed25519Verifier(new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(x)).build());
+        }
+
+        @Override
+        public PrivateKey privateKey(JWK jwk) throws JOSEException {
+            try {
+                var d = jwk.toOctetKeyPair().getDecodedD();
+                return KeyFactory.getInstance("Ed25519")
+                        .generatePrivate(new EdECPrivateKeySpec(NamedParameterSpec.ED25519, d));
+            } catch (GeneralSecurityException error) {
+                throw new JOSEException("Unable to convert the Ed25519 private key", error);
+            }
+        }
+    };
+
+    private final JWSAlgorithm jwsAlgorithm;
+    private final JwsAlgorithm jwsHeaderAlgorithm;
+    private final String jcaAlgorithm;
+
+    /**
+     * EN: Loads the key pair from PEM files (PKCS#8 private key, X.509 public key).
+     * <br><br>
+     * PT-BR: Carrega o par de chaves a partir de arquivos PEM (chave privada PKCS#8, chave pública X.509).
+     */
+    public abstract JWK load(Resource privateKey, Resource publicKey) throws JOSEException;
+
+    /**
+     * EN: Generates a new key pair, used by the key rotation.
+     * <br><br>
+     * PT-BR: Gera um novo par de chaves, usado pela rotação de chaves.
+     */
+    public abstract JWK generate() throws JOSEException;
+
+    /**
+     * EN: Creates a thread-safe signer for the given key.
+     * <br><br>
+     * PT-BR: Cria um assinador thread-safe para a chave informada.
+     */
+    public abstract JWSSigner signer(JWK jwk) throws JOSEException;
+
+    /**
+     * EN: Extracts the JCA private key, used with a {@link java.security.Signature} of {@link #getJcaAlgorithm()}.
+     * <br><br>
+     * PT-BR: Extrai a chave privada JCA, usada com uma {@link java.security.Signature} de {@link #getJcaAlgorithm()}.
+     */
+    public abstract PrivateKey privateKey(JWK jwk) throws JOSEException;
+
+    /**
+     * EN: Extracts the JCA public key, selected by the resource server to verify signatures.
+     * <br><br>
+     * PT-BR: Extrai a chave pública JCA, selecionada pelo servidor de recursos para verificar assinaturas.
+     */
+    public PublicKey publicKey(JWK jwk) throws JOSEException {
+        return ((AsymmetricJWK) jwk).toPublicKey();
+    }
+
+    /**
+     * EN: Creates a verifier for a public key returned by {@link #publicKey(JWK)}.
+     * <br><br>
+     * PT-BR: Cria um verificador para uma chave pública retornada por {@link #publicKey(JWK)}.
+     */
+    public JWSVerifier verifier(PublicKey key) throws JOSEException {
+        return new DefaultJWSVerifierFactory().createJWSVerifier(new JWSHeader(jwsAlgorithm), key);
+    }
+
+    private static <T> T read(Resource resource, Function<InputStream, T> converter) {
+        try (var input = resource.getInputStream()) {
+            return converter.apply(input);
+        } catch (IOException error) {
+            throw new GenerateException("Unable to read key from %s".formatted(resource), error);
+        }
+    }
+
+    private static byte[] pem(Resource resource) {
+        var content = read(resource, input -> {
+            try {
+                return new String(input.readAllBytes(), StandardCharsets.US_ASCII);
+            } catch (IOException error) {
+                throw new GenerateException("Unable to read key from %s".formatted(resource), error);
+            }
+        });
+        return Base64.getMimeDecoder().decode(content.lines()
+                .filter(line -> !line.startsWith("-----"))
+                .collect(Collectors.joining()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.threembank.infrastructure.security.jwt.key;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.threembank.shared.exception.GenerateException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.PrivateKey;
+import java.time.Instant;
+
+/**
+ * A key of the {@link JwtKeyRing} together with its precomputed JWS header and thread-safe signer.
+ *
+ * @param jwk           the key pair, identified by its RFC 7638 thumbprint
+ * @param algorithm     the signature algorithm of the key
+ * @param header        the JWS header used for tokens signed with this key
+ * @param encodedHeader the base64url-encoded {@code header} as ASCII bytes
+ * @param signer        the signer, shared by all threads
+ * @param privateKey    the JCA private key, for signers that work on byte ranges
+ * @param createdAt     when the key was added to the ring
+ */
+public record SigningKey(JWK jwk, SigningAlgorithm algorithm, JWSHeader header, byte[] encodedHeader,
+                         JWSSigner signer, PrivateKey privateKey, Instant createdAt) {
+
+    public static SigningKey of(JWK jwk, SigningAlgorithm algorithm, Instant createdAt) {
+        try {
+            var header = new JWSHeader.Builder(algorithm.getJwsAlgorithm())
+                    .keyID(jwk.getKeyID())
+                    .build();
+            var encodedHeader = header.toBase64URL().toString().getBytes(StandardCharsets.US_ASCII);
+            return new SigningKey(jwk, algorithm, header, encodedHeader, algorithm.signer(jwk), algorithm.privateKey(jwk), createdAt);
+        } catch (JOSEException error) {
+            throw new GenerateException("Unable to create signer for key ID: {%s}".formatted(jwk.getKeyID()), error);
+        }
+    }
+
+    public String keyId() {
+        return jwk.getKeyID();
+    }
+}
@@ -0,0 +1,19 @@
+package com.threembank.infrastructure.security.jwt.key;
+
+import com.nimbusds.jose.jwk.JWK;
+
+import java.time.Instant;
+
+/**
+ * A signing key of the shared {@link JwtKeyStore}.
+ *
+ * @param jwk         the key pair
+ * @param createdAt   when the key was generated and published
+ * @param activatesAt when the key starts signing, ending the signing period of the key before it
+ */
+public record StoredSigningKey(JWK jwk, Instant createdAt, Instant activatesAt) {
+
+    public String keyId() {
+        return jwk.getKeyID();
+    }
+}
@@ -0,0 +1,27 @@
+package com.threembank.infrastructure.security.jwt.revocation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+
+/**
+ * Rejects bearer tokens revoked in the {@link TokenRevocationRegistry}, by their {@code epoch} claim, before delegating
+ * the conversion.
+ * Runs after the (possibly cached) {@code JwtDecoder}, so cached tokens are checked as well.
+ */
+@RequiredArgsConstructor
+public class RevocationAwareJwtAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+    private final Converter<Jwt, ? extends AbstractAuthenticationToken> delegate;
+    private final TokenRevocationRegistry registry;
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        var epoch = jwt.getClaims().get("epoch") instanceof Number number ? number.longValue() : null;
+        if (registry.isRevoked(jwt.getSubject(), epoch, jwt.getIssuedAt())) {
+            throw new InvalidBearerTokenException("Token has been revoked");
+        }
+        return delegate.convert(jwt);
+    }
+}
@@ -0,0 +1,114 @@
+package com.threembank.infrastructure.security.jwt.revocation;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory view of the users whose tokens were revoked, consulted on every authenticated request.
+ * <p>
+ * A token is revoked when its {@code epoch} claim is lower than the token epoch of its subject after the revocation,
+ * so a login in the same second as the logout is accepted and a token issued just before it is not. Tokens without the
+ * claim, issued before it existed, fall back to comparing {@code iat} with the revocation time; both have second
+ * precision, so for those a login in the same second as the logout is rejected as well.
+ * Subjects that were never revoked, the common case, are answered by a Bloom filter without touching the map.
+ * Lookups take no lock and allocate nothing. Writers are serialized; {@link #prune} rebuilds the filter
+ * from the remaining entries, since a Bloom filter cannot remove keys.
+ */
+@Component
+public class TokenRevocationRegistry {
+    private final Map<String, Revocation> revocations = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter = new BloomFilter();
+
+    /**
+     * @param epoch    the {@code epoch} claim of the token, {@code null} when it has none
+     * @param issuedAt the {@code iat} claim of the token, only used when {@code epoch} is {@code null}
+     */
+    public boolean isRevoked(String subject, Long epoch, Instant issuedAt) {
+        if (subject == null || !filter.mightContain(subject)) {
+            return false;
+        }
+        var revocation = revocations.get(subject);
+        if (revocation == null) {
+            return false;
+        }
+        if (epoch != null) {
+            return epoch < revocation.epoch();
+        }
+        return issuedAt == null || issuedAt.getEpochSecond() <= revocation.revokedAt();
+    }
+
+    /**
+     * @param epoch the token epoch of {@code subject} after the revocation
+     */
+    public synchronized void revoke(String subject, Instant at, long epoch) {
+        revocations.merge(subject, new Revocation(epoch, at.getEpochSecond()), Revocation::latest);
+        filter.add(subject);
+    }
+
+    public synchronized void prune(Instant before) {
+        var limit = before.getEpochSecond();
+        if (revocations.values().removeIf(revocation -> revocation.revokedAt() < limit)) {
+            var rebuilt = new BloomFilter();
+            revocations.keySet().forEach(rebuilt::add);
+            filter = rebuilt;
+        }
+    }
+
+    public int size() {
+        return revocations.size();
+    }
+
+    private record Revocation(long epoch, long revokedAt) {
+
+        Revocation latest(Revocation other) {
+            return new Revocation(Math.max(epoch, other.epoch), Math.max(revokedAt, other.revokedAt));
+        }
+    }
+
+    /**
+     * 2^20 bits (128 KiB) and 3 probes: under 0.01% false positives up to ~15,000 revoked subjects.
+     * A false positive only costs the map lookup. Only called by the serialized writers, so {@link #add} needs no CAS.
+     */
+    private static final class BloomFilter {
+        private static final int BITS = 1 << 20;
+        private static final int MASK = BITS - 1;
+        private static final int PROBES = 3;
+
+        private final AtomicLongArray words = new AtomicLongArray(BITS >>> 6);
+
+        void add(String key) {
+            var h1 = key.hashCode();
+            var h2 = mix(h1);
+            for (var i = 0; i < PROBES; i++) {
+                var bit = (h1 + i * h2) & MASK;
+                var word = bit >>> 6;
+                words.set(word, words.get(word) | (1L << bit));
+            }
+        }
+
+        boolean mightContain(String key) {
+            var h1 = key.hashCode();
+            var h2 = mix(h1);
+            for (var i = 0; i < PROBES; i++) {
+                var bit = (h1 + i * h2) & MASK;
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int mix(int h) {
+            h ^= h >>> 16;
+            h *= 0x85ebca6b;
+            h ^= h >>> 13;
+            h *= 0xc2b2ae35;
+            h ^= h >>> 16;
+            return h | 1;
+        }
+    }
+}
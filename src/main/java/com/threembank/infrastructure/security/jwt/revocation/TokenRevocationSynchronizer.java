@@ -0,0 +1,52 @@
+package com.threembank.infrastructure.security.jwt.revocation;
+
+import com.threembank.domain.repository.UserRepository;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keeps the {@link TokenRevocationRegistry} in sync with {@code users.tokens_revoked_at}, so a logout handled by
+ * another instance is enforced here within {@code services.security.jwt.revocation.poll-interval}.
+ * <p>
+ * Only revocations newer than the access-token lifetime matter: older ones can only match expired tokens. The first
+ * run loads that window; later runs read rows newer than the last revocation seen, minus a small overlap for
+ * transactions that commit late. Reads are idempotent, and entries past the window are pruned.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationSynchronizer {
+    private static final Duration OVERLAP = Duration.ofMinutes(1);
+
+    private final TokenRevocationRegistry registry;
+    private final UserRepository userRepository;
+    private final SecProperties properties;
+    private Instant watermark = Instant.EPOCH;
+
+    @PostConstruct
+    void load() {
+        synchronize();
+        log.info("Loaded {} token revocations", registry.size());
+    }
+
+    @Scheduled(fixedDelayString = "${services.security.jwt.revocation.poll-interval:PT10S}")
+    public synchronized void synchronize() {
+        var horizon = Instant.now().minus(properties.getExpirationAt());
+        var since = watermark.minus(OVERLAP).isAfter(horizon) ? watermark.minus(OVERLAP) : horizon;
+
+        for (var revocation : userRepository.findTokenRevocationsSince(since)) {
+            registry.revoke(revocation.userId().toString(), revocation.revokedAt(), revocation.epoch());
+            if (revocation.revokedAt().isAfter(watermark)) {
+                watermark = revocation.revokedAt();
+            }
+        }
+        registry.prune(horizon);
+    }
+}
@@ -0,0 +1,136 @@
+package com.threembank.infrastructure.security.password;
+
+import com.threembank.domain.validation.BreachedPasswordCheck;
+import com.threembank.infrastructure.security.crypto.CryptoPrototypes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+
+/**
+ * {@link BreachedPasswordCheck} backed by a Bloom filter file, memory-mapped and validated when constructed and shared by
+ * all threads, so a missing or damaged file fails at startup instead of on the first registration.
+ * The filter is never copied to the heap; the OS page cache holds the pages that are actually probed.
+ * <p>
+ * Keys are the SHA-1 digests of the UTF-8 passwords, the form published by Have I Been Pwned, so the file can be
+ * built from the HIBP list without the plaintexts (see {@link #write}). File layout, big-endian:
+ * <pre>
+ * offset  size  field
+ *      0     4  magic "PWBF"
+ *      4     4  version (1)
+ *      8     4  k, number of probes
+ *     12     4  reserved (0)
+ *     16     8  m, number of bits (multiple of 64)
+ *     24   m/8  bits, as longs; bit i is bit (i mod 64) of long (i / 64)
+ * </pre>
+ * Probe {@code i} (0 &le; i &lt; k) sets bit {@code floorMod(h1 + i * h2, m)}, where {@code h1} and {@code h2} are
+ * the first and second 8 bytes of the digest, {@code h2} with its lowest bit set.
+ * The file is mapped as a single buffer, so it must be smaller than 2 GiB (about 1.7 billion entries at 1%).
+ */
+public class BreachedPasswordFilter implements BreachedPasswordCheck {
+    private static final int MAGIC = 0x50574246;
+    private static final int VERSION = 1;
+    private static final int HEADER = 24;
+    private static final MessageDigest SHA_1 = CryptoPrototypes.digest("SHA-1");
+
+    private final Mapped mapped;
+
+    /**
+     * @throws UncheckedIOException  if the file cannot be opened or mapped.
+     * @throws IllegalStateException if the file is not a filter in the layout above, or is truncated.
+     */
+    public BreachedPasswordFilter(Path file) {
+        this.mapped = Mapped.open(file);
+    }
+
+    @Override
+    public boolean isBreached(CharSequence password) {
+        var digest = CryptoPrototypes.copy(SHA_1);
+        digest.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(password)));
+        return mapped.mightContain(digest.digest());
+    }
+
+    /**
+     * Writes a filter for {@code expectedEntries} SHA-1 digests at the given false positive rate, in the layout above.
+     * The bit array is built in memory, so building needs heap for {@code m/8} bytes.
+     */
+    public static void write(Path target, long expectedEntries, double falsePositiveRate, Iterable<byte[]> sha1Digests)
+            throws IOException {
+        var ln2 = Math.log(2);
+        var bits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (ln2 * ln2));
+        bits = Math.max(64, (bits + 63) & ~63L);
+        if (HEADER + bits / 8 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Filter for %d entries would exceed 2 GiB".formatted(expectedEntries));
+        }
+        var probes = Math.max(1, (int) Math.round((double) bits / expectedEntries * ln2));
+        var words = new long[(int) (bits >>> 6)];
+        for (var digest : sha1Digests) {
+            var h1 = longAt(digest, 0);
+            var h2 = longAt(digest, 8) | 1;
+            for (var i = 0; i < probes; i++) {
+                var bit = Math.floorMod(h1 + i * h2, bits);
+                words[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        try (var channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            var header = ByteBuffer.allocate(HEADER).putInt(MAGIC).putInt(VERSION).putInt(probes).putInt(0).putLong(bits);
+            channel.write(header.flip());
+            var chunk = ByteBuffer.allocate(1 << 16);
+            for (var word : words) {
+                if (!chunk.hasRemaining()) {
+                    channel.write(chunk.flip());
+                    chunk.clear();
+                }
+                chunk.putLong(word);
+            }
+            channel.write(chunk.flip());
+        }
+    }
+
+    private static long longAt(byte[] bytes, int offset) {
+        var value = 0L;
+        for (var i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xff);
+        }
+        return value;
+    }
+
+    private record Mapped(MappedByteBuffer buffer, int probes, long bits) {
+        static Mapped open(Path file) {
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IllegalStateException("Not a breached-password filter: " + file);
+                }
+                var bits = buffer.getLong(16);
+                if (bits <= 0 || bits % 64 != 0 || HEADER + bits / 8 != channel.size()) {
+                    throw new IllegalStateException("Truncated breached-password filter: " + file);
+                }
+                return new Mapped(buffer, buffer.getInt(8), bits);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot map breached-password filter " + file, e);
+            }
+        }
+
+        boolean mightContain(byte[] digest) {
+            var h1 = longAt(digest, 0);
+            var h2 = longAt(digest, 8) | 1;
+            for (var i = 0; i < probes; i++) {
+                var bit = Math.floorMod(h1 + i * h2, bits);
+                if ((buffer.getLong(HEADER + (int) ((bit >>> 6) << 3)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.threembank.infrastructure.security.password;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * bcrypt encoder whose strength is measured on the current hardware at startup: the highest strength within
+ * {@code [minStrength, maxStrength]} whose hash fits in the target duration.
+ * <p>
+ * {@link #upgradeEncoding} only reports hashes weaker than the calibrated strength. The strength is measured on each
+ * host, so instances on different hardware may disagree: a hash is raised to the cost of the strongest host that sees
+ * it and is never lowered, instead of being rewritten back and forth on every login. {@code min-strength} is the
+ * floor that every host enforces.
+ */
+@Slf4j
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final Pattern BCRYPT = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final int PROBE_STRENGTH = 8;
+    private static final int PROBE_RUNS = 3;
+
+    @Getter
+    private final int strength;
+
+    private CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    public static CalibratedBCryptPasswordEncoder calibrate(Duration target, int minStrength, int maxStrength) {
+        var probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        probe.encode("calibration");
+        var best = Long.MAX_VALUE;
+        for (var i = 0; i < PROBE_RUNS; i++) {
+            var start = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        var strength = minStrength;
+        while (strength < maxStrength && estimate(best, strength + 1) <= target.toNanos()) {
+            strength++;
+        }
+        log.info("bcrypt strength calibrated to {} (~{} ms per hash, target {} ms)", strength,
+                Duration.ofNanos(estimate(best, strength)).toMillis(), target.toMillis());
+        return new CalibratedBCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * Each strength step doubles the bcrypt cost.
+     */
+    private static long estimate(long probeNanos, int strength) {
+        return strength >= PROBE_STRENGTH
+                ? probeNanos << (strength - PROBE_STRENGTH)
+                : probeNanos >> (PROBE_STRENGTH - strength);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        var matcher = BCRYPT.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Encoded password does not look like BCrypt: " + encodedPassword);
+        }
+        return Integer.parseInt(matcher.group(1)) < strength;
+    }
+}
@@ -0,0 +1,38 @@
+package com.threembank.infrastructure.security.password;
+
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import lombok.Getter;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Holds the {@link PasswordEncoder} of OAuth2 client secrets, kept apart from the application {@link PasswordEncoder}
+ * bean used for user passwords.
+ * <p>
+ * New secrets are stored as {@code {hmac-sha256}} with the configured pepper. Secrets stored with another id (bcrypt)
+ * are still verified by the application encoder and report {@code upgradeEncoding}, so
+ * {@code ClientSecretAuthenticationProvider} re-encodes them on their next successful authentication and saves them
+ * through the {@code RegisteredClientRepository}.
+ */
+@Component
+public class ClientSecretEncoder {
+    public static final String ID = "hmac-sha256";
+
+    @Getter
+    private final PasswordEncoder encoder;
+
+    public ClientSecretEncoder(SecProperties properties, PasswordEncoder passwordEncoder) {
+        var pepper = properties.getClientSecretPepper();
+        if (pepper == null || pepper.isBlank()) {
+            throw new IllegalStateException("services.security.client-secret.pepper is not configured");
+        }
+        var hmac = new HmacSha256PasswordEncoder(pepper.getBytes(StandardCharsets.UTF_8));
+        var delegating = new DelegatingPasswordEncoder(ID, Map.of(ID, hmac));
+        delegating.setDefaultPasswordEncoderForMatches(passwordEncoder);
+        this.encoder = delegating;
+    }
+}
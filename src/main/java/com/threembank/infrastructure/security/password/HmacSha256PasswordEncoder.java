@@ -0,0 +1,57 @@
+package com.threembank.infrastructure.security.password;
+
+import com.threembank.infrastructure.security.crypto.CryptoPrototypes;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * {@link PasswordEncoder} for high-entropy machine secrets: HMAC-SHA-256 of the secret keyed by a server-side pepper,
+ * encoded as unpadded base64url.
+ * <p>
+ * A slow, salted hash protects low-entropy human passwords against offline guessing; a randomly generated secret of
+ * 192 bits cannot be guessed either way, so it only needs a keyed one-way function. Without the pepper, a copy of the
+ * table is not enough to verify guesses. The output is deterministic, and verification compares in constant time.
+ * Changing the pepper invalidates every secret encoded with it.
+ * <p>
+ * The keyed {@link Mac} is initialized once with the pepper and copied per call (see {@link CryptoPrototypes}).
+ */
+public class HmacSha256PasswordEncoder implements PasswordEncoder {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_PEPPER_LENGTH = 32;
+
+    private final Mac prototype;
+
+    public HmacSha256PasswordEncoder(byte[] pepper) {
+        if (pepper == null || pepper.length < MIN_PEPPER_LENGTH) {
+            throw new IllegalArgumentException("The pepper must have at least %d bytes".formatted(MIN_PEPPER_LENGTH));
+        }
+        this.prototype = CryptoPrototypes.mac(ALGORITHM, pepper);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        byte[] expected;
+        try {
+            expected = Base64.getUrlDecoder().decode(encodedPassword);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected, digest(rawPassword));
+    }
+
+    private byte[] digest(CharSequence rawPassword) {
+        return CryptoPrototypes.copy(prototype).doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package com.threembank.infrastructure.security.password;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * {@link PasswordEncoder} that runs {@link #encode} and {@link #matches} of its delegate on the
+ * {@link PasswordHashingExecutor}. {@link #upgradeEncoding} only inspects the hash prefix and stays on the caller thread.
+ */
+@RequiredArgsConstructor
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.encode(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.matches(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,119 @@
+package com.threembank.infrastructure.security.password;
+
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing and verification on a dedicated pool sized to the CPU count, so a burst of logins or
+ * registrations cannot occupy every request thread.
+ * <p>
+ * The queue is bounded: when it is full, the work is rejected immediately with a {@link ServiceOverloadedException}
+ * (503 with {@code Retry-After}) instead of piling up. The caller blocks until its task completes.
+ * Published metrics:
+ * <ul>
+ *     <li>{@code password.hashing.queue.wait}: time a task waited for a pool thread</li>
+ *     <li>{@code password.hashing.service}: time spent hashing</li>
+ *     <li>{@code password.hashing.rejected}: count of rejected tasks</li>
+ *     <li>{@code executor.*{name=password.hashing}}: the pool itself</li>
+ * </ul>
+ * The timers are tagged with {@code operation=encode|matches}.
+ */
+@Component
+public class PasswordHashingExecutor {
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+    private final Timer encodeWait;
+    private final Timer encodeService;
+    private final Timer matchesWait;
+    private final Timer matchesService;
+    private final Counter rejected;
+
+    public PasswordHashingExecutor(SecProperties properties, MeterRegistry registry) {
+        var threads = properties.getPasswordHashingThreads() > 0
+                ? properties.getPasswordHashingThreads()
+                : Runtime.getRuntime().availableProcessors();
+        var sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getPasswordHashingQueueCapacity()),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+        this.retryAfter = properties.getPasswordHashingRetryAfter();
+        this.encodeWait = timer(registry, "password.hashing.queue.wait", "encode");
+        this.encodeService = timer(registry, "password.hashing.service", "encode");
+        this.matchesWait = timer(registry, "password.hashing.queue.wait", "matches");
+        this.matchesService = timer(registry, "password.hashing.service", "matches");
+        this.rejected = registry.counter("password.hashing.rejected");
+        new ExecutorServiceMetrics(executor, "password.hashing", Tags.empty()).bindTo(registry);
+    }
+
+    public String encode(Supplier<String> task) {
+        return execute(task, encodeWait, encodeService);
+    }
+
+    public boolean matches(Supplier<Boolean> task) {
+        return execute(task, matchesWait, matchesService);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Supplier<T> task, Timer wait, Timer service) {
+        var submittedAt = System.nanoTime();
+        var result = new CompletableFuture<T>();
+        try {
+            executor.execute(() -> {
+                var startedAt = System.nanoTime();
+                wait.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    service.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException("Password hashing capacity exhausted", retryAfter);
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String operation) {
+        return Timer.builder(name).tag("operation", operation).register(registry);
+    }
+}
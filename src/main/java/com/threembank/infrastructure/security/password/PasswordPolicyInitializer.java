@@ -0,0 +1,31 @@
+package com.threembank.infrastructure.security.password;
+
+import com.threembank.domain.validation.PasswordPolicy;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Installs the {@link PasswordPolicy} configured under {@code services.security.password-policy} at startup,
+ * with the {@link BreachedPasswordFilter} when {@code breached-filter} points to a filter file. The file is mapped and
+ * validated here, so a wrong path or a damaged file stops the application from starting.
+ */
+@Slf4j
+@Component
+public class PasswordPolicyInitializer {
+
+    public PasswordPolicyInitializer(SecProperties properties) {
+        var breachedFilter = properties.getPasswordPolicyBreachedFilter();
+        PasswordPolicy.configure(PasswordPolicy.builder()
+                .withMinLength(properties.getPasswordPolicyMinLength())
+                .withMaxLength(properties.getPasswordPolicyMaxLength())
+                .withRequireLowercase(properties.isPasswordPolicyRequireLowercase())
+                .withRequireUppercase(properties.isPasswordPolicyRequireUppercase())
+                .withRequireDigit(properties.isPasswordPolicyRequireDigit())
+                .withRequireSpecial(properties.isPasswordPolicyRequireSpecial())
+                .withSpecialCharacters(properties.getPasswordPolicySpecialCharacters())
+                .withBreachedPasswordCheck(breachedFilter == null ? null : new BreachedPasswordFilter(breachedFilter))
+                .build());
+        log.info("Password policy configured (breached-password filter: {})", breachedFilter == null ? "disabled" : breachedFilter);
+    }
+}
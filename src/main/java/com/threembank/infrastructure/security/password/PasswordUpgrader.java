@@ -0,0 +1,57 @@
+package com.threembank.infrastructure.security.password;
+
+import com.threembank.domain.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Re-hashes passwords flagged by {@code PasswordEncoder#upgradeEncoding} after a successful login, off the response
+ * path. Runs on one background thread with a small queue; when it is full the upgrade is dropped, and it is attempted
+ * again on the user's next login.
+ */
+@Slf4j
+@Component
+public class PasswordUpgrader {
+    private final PasswordEncoder encoder;
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordUpgrader(PasswordEncoder encoder, UserRepository userRepository) {
+        this.encoder = encoder;
+        this.userRepository = userRepository;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(256),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-upgrade");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void upgrade(UUID userId, String rawPassword) {
+        try {
+            executor.execute(() -> {
+                try {
+                    userRepository.updatePassword(userId, encoder.encode(rawPassword));
+                } catch (RuntimeException e) {
+                    log.warn("Password upgrade failed for user {}: {}", userId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Password upgrade queue full, skipping user {}", userId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
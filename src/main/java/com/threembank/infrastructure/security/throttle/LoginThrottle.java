@@ -0,0 +1,77 @@
+package com.threembank.infrastructure.security.throttle;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.shared.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Rate limits login attempts per client address and per normalized username before any password is verified,
+ * so failed attempts cannot be used to burn bcrypt CPU.
+ * <p>
+ * Each key has a {@link TokenBucket}. Buckets are dropped once idle long enough to be full again, so eviction never
+ * grants extra attempts, and each cache is bounded by {@code max-keys}. The client address is the servlet remote
+ * address; behind a proxy, enable {@code server.forward-headers-strategy} so it reflects the real client.
+ * Rejections are counted in {@code login.throttle.rejected{key=address|username}} and tracked keys in
+ * {@code login.throttle.keys}.
+ */
+@Component
+public class LoginThrottle {
+    private final Limiter addresses;
+    private final Limiter usernames;
+
+    public LoginThrottle(SecProperties properties, MeterRegistry registry) {
+        this.addresses = new Limiter(properties.getLoginThrottleAddressCapacity(),
+                properties.getLoginThrottleAddressRefill(), properties.getLoginThrottleMaxKeys(),
+                registry.counter("login.throttle.rejected", "key", "address"));
+        this.usernames = new Limiter(properties.getLoginThrottleUsernameCapacity(),
+                properties.getLoginThrottleUsernameRefill(), properties.getLoginThrottleMaxKeys(),
+                registry.counter("login.throttle.rejected", "key", "username"));
+        registry.gaugeMapSize("login.throttle.keys", Tags.of("key", "address"), addresses.buckets.asMap());
+        registry.gaugeMapSize("login.throttle.keys", Tags.of("key", "username"), usernames.buckets.asMap());
+    }
+
+    public void acquire(String username) {
+        var now = System.nanoTime();
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            addresses.acquire(attributes.getRequest().getRemoteAddr(), now);
+        }
+        if (username != null) {
+            usernames.acquire(username.strip().toLowerCase(Locale.ROOT), now);
+        }
+    }
+
+    private static final class Limiter {
+        private final int capacity;
+        private final long refillNanos;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejected;
+
+        Limiter(int capacity, Duration refill, long maxKeys, Counter rejected) {
+            this.capacity = capacity;
+            this.refillNanos = refill.toNanos();
+            this.buckets = Caffeine.newBuilder()
+                    .maximumSize(maxKeys)
+                    .expireAfterAccess(refill.multipliedBy(capacity))
+                    .build();
+            this.rejected = rejected;
+        }
+
+        void acquire(String key, long now) {
+            var wait = buckets.get(key, _ -> new TokenBucket(capacity, refillNanos, now)).tryAcquire(now);
+            if (wait > 0) {
+                rejected.increment();
+                throw new TooManyRequestsException("Too many login attempts", Duration.ofNanos(wait));
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.threembank.infrastructure.security.throttle;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket holding up to {@code capacity} tokens, one refilled every {@code refillNanos}.
+ * <p>
+ * Implemented as a generic cell rate algorithm: the whole state is the time at which the bucket would be full again,
+ * updated with a single CAS, so concurrent acquisitions never block each other.
+ */
+final class TokenBucket {
+    private final long refillNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, long refillNanos, long now) {
+        this.refillNanos = refillNanos;
+        this.burstNanos = capacity * refillNanos;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until one is available.
+     */
+    long tryAcquire(long now) {
+        while (true) {
+            var current = fullAt.get();
+            var next = Math.max(current, now) + refillNanos;
+            var wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -20,6 +20,8 @@ public class BasicUserDetails implements UserDetails, CredentialsContainer {
     private String username;
     private String password;
     private final Set<GrantedAuthority> authorities;
+    private boolean passwordUpgradeRequired;
+    private long tokenEpoch;
 
     @Override
     public void eraseCredentials() {
@@ -1,24 +1,64 @@
 package com.threembank.infrastructure.security.user;
 
 import com.threembank.domain.repository.UserRepository;
+import com.threembank.domain.valueobject.Role;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class BasicUserDetailsProvider implements UserDetailsService {
+    private static final Map<Role, GrantedAuthority> AUTHORITIES = new EnumMap<>(Role.class);
 
-    private final UserRepository userRepository;
+    static {
+        for (var role : Role.values()) {
+            AUTHORITIES.put(role, new SimpleGrantedAuthority(role.toString()));
+        }
+    }
 
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UnknownUsernameCache unknownUsernames;
 
     @Override
     public BasicUserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        var user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        return new BasicUserDetails(user.getId(),user.getEmail(), user.getPassword(), new HashSet<>(user.getAuthorities()));
+        if (username == null || unknownUsernames.isUnknown(username)) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        var credential = userRepository.findCredentialByUsername(username).orElse(null);
+        if (credential == null) {
+            unknownUsernames.markUnknown(username);
+            throw new UsernameNotFoundException("User not found");
+        }
+        return BasicUserDetails.builder()
+                .id(credential.id())
+                .username(credential.email())
+                .password(credential.password())
+                .authorities(authoritiesOf(credential.roles()))
+                .tokenEpoch(credential.epoch())
+                .passwordUpgradeRequired(passwordEncoder.upgradeEncoding(credential.password()))
+                .build();
+    }
+
+    /**
+     * Maps roles to their shared {@link GrantedAuthority} instances.
+     */
+    public static Set<GrantedAuthority> authoritiesOf(Collection<Role> roles) {
+        var authorities = new HashSet<GrantedAuthority>(roles.size());
+        for (var role : roles) {
+            authorities.add(AUTHORITIES.get(role));
+        }
+        return authorities;
     }
 }
@@ -0,0 +1,46 @@
+package com.threembank.infrastructure.security.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Usernames recently looked up by the login path and not found, so credential-stuffing lists of unknown addresses do
+ * not reach the database on every attempt.
+ * <p>
+ * Bounded by {@code maximum-size} and expired {@code ttl} after the miss. Registration invalidates the username on the
+ * instance that handled it; other instances may keep answering "not found" for that username until the entry expires,
+ * which is why the default {@code ttl} is a few seconds: a login right after registering on another instance fails
+ * for at most that long, while a stuffing list repeating an unknown address still reaches the database at most once
+ * per {@code ttl} per instance.
+ * Misses answered from here still throw {@code UsernameNotFoundException}, so {@code DaoAuthenticationProvider} still
+ * runs its dummy password verification and the response time does not reveal whether the user exists.
+ */
+@Component
+public class UnknownUsernameCache {
+    private final Cache<String, Boolean> usernames;
+
+    public UnknownUsernameCache(SecProperties properties, MeterRegistry registry) {
+        this.usernames = Caffeine.newBuilder()
+                .maximumSize(properties.getUnknownUsernameCacheMaximumSize())
+                .expireAfterWrite(properties.getUnknownUsernameCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, usernames, "login.unknown.usernames");
+    }
+
+    public boolean isUnknown(String username) {
+        return usernames.getIfPresent(username) != null;
+    }
+
+    public void markUnknown(String username) {
+        usernames.put(username, Boolean.TRUE);
+    }
+
+    public void invalidate(String username) {
+        usernames.invalidate(username);
+    }
+}
@@ -0,0 +1,39 @@
+package com.threembank.interfaces.controller;
+
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+    private final JwtKeyRing keyRing;
+    private final SecProperties properties;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<byte[]> jwks(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var snapshot = keyRing.snapshot();
+        var etag = "\"%s\"".formatted(snapshot.etag());
+        var cacheControl = CacheControl.maxAge(properties.getJwksMaxAge()).cachePublic();
+
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.jwks());
+    }
+}
@@ -2,6 +2,8 @@ package com.threembank.interfaces.controller;
 
 import com.threembank.application.usercase.RegisterUseCase;
 import com.threembank.interfaces.controller.doc.RegisterSwaggerDoc;
+import com.threembank.interfaces.dto.RegisterClientBatchRequest;
+import com.threembank.interfaces.dto.RegisterClientBatchResponse;
 import com.threembank.interfaces.dto.RegisterClientRequest;
 import com.threembank.interfaces.dto.RegisterClientResponse;
 import com.threembank.interfaces.dto.RegisterUserRequest;
@@ -31,4 +33,9 @@ public class RegisterController implements RegisterSwaggerDoc {
         var registered = register.register(clientRequest);
         return ResponseEntity.status(HttpStatus.CREATED).body(registered);
     }
+
+    @PostMapping("/client/batch")
+    public ResponseEntity<RegisterClientBatchResponse> register(@RequestBody @Valid RegisterClientBatchRequest batchRequest) {
+        return ResponseEntity.ok(register.register(batchRequest));
+    }
 }
@@ -0,0 +1,19 @@
+package com.threembank.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Requisição para cadastro de vários clientes OAuth2 de uma vez")
+public class RegisterClientBatchRequest {
+    @Valid
+    @NotEmpty
+    @Size(max = 1000)
+    @Schema(description = "Clients to register; each one is registered or rejected independently")
+    private List<RegisterClientRequest> clients;
+}
@@ -0,0 +1,32 @@
+package com.threembank.interfaces.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record RegisterClientBatchResponse(
+        @Schema(description = "One result per requested client, in the request order") List<Item> clients) {
+
+    public enum Status {
+        CREATED, ALREADY_EXISTS, INVALID
+    }
+
+    public record Item(
+            @Schema(description = "Client ID", example = "billing-service") String clientId,
+            @Schema(description = "Registration result", example = "CREATED") Status status,
+            @Schema(description = "Generated client secret, only present when created") String clientSecret,
+            @Schema(description = "Reason when not created", example = "This clientId already exists") String message) {
+
+        public static Item created(String clientId, String clientSecret) {
+            return new Item(clientId, Status.CREATED, clientSecret, null);
+        }
+
+        public static Item alreadyExists(String clientId) {
+            return new Item(clientId, Status.ALREADY_EXISTS, null, "This clientId already exists");
+        }
+
+        public static Item invalid(String clientId, String message) {
+            return new Item(clientId, Status.INVALID, null, message);
+        }
+    }
+}
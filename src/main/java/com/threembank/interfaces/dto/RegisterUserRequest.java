@@ -1,5 +1,6 @@
 package com.threembank.interfaces.dto;
 
+import com.threembank.domain.validation.StrongPassword;
 import com.threembank.domain.valueobject.Role;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotEmpty;
@@ -34,7 +35,8 @@ public class RegisterUserRequest {
 
     @NotEmpty
     @NotNull
-    @Schema(description = "User password", example = "SenhaSegura123")
+    @StrongPassword
+    @Schema(description = "User password", example = "SenhaSegura@123")
     private String password;
 
     @NotNull
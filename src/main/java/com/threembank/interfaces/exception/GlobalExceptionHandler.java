@@ -3,12 +3,16 @@ package com.threembank.interfaces.exception;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.threembank.interfaces.valueobject.Error;
 import com.threembank.shared.exception.BasicValidationException;
+import com.threembank.shared.exception.ServiceOverloadedException;
+import com.threembank.shared.exception.TooManyRequestsException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
@@ -29,6 +33,22 @@ public class GlobalExceptionHandler {
                 .body(new Error("1.0.0", ex.getClass().getSimpleName(), ex.getMessage()));
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Error> handler(ServiceOverloadedException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfter(ex.getRetryAfter()))
+                .body(new Error("1.0.0", ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Error> handler(TooManyRequestsException ex) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAfter(ex.getRetryAfter()))
+                .body(new Error("1.0.0", ex.getClass().getSimpleName(), ex.getMessage()));
+    }
+
     @ExceptionHandler(InvalidFormatException.class)
     public ResponseEntity<Error> handler(InvalidFormatException ex) {
         var value = ex.getValue();
@@ -43,4 +63,8 @@ public class GlobalExceptionHandler {
                 .body(new Error("1.0.0", ex.getClass().getSimpleName(), message));
     }
 
+    private static String retryAfter(Duration retryAfter) {
+        var seconds = retryAfter.toSeconds() + (retryAfter.toNanosPart() > 0 ? 1 : 0);
+        return String.valueOf(Math.max(1, seconds));
+    }
 }
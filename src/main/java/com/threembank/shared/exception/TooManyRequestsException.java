@@ -0,0 +1,15 @@
+package com.threembank.shared.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
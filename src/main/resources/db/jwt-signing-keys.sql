@@ -0,0 +1,8 @@
+-- Signing keys shared by all instances when services.security.jwt.rotation.enabled=true.
+-- sealed_jwk holds the private JWK encrypted with AES-256-GCM under services.security.jwt.rotation.encryption-key.
+create table if not exists jwt_signing_keys (
+    kid          varchar(128) primary key,
+    sealed_jwk   bytea        not null,
+    created_at   timestamptz  not null,
+    activates_at timestamptz  not null
+);
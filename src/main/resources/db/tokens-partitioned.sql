@@ -0,0 +1,43 @@
+-- Optional: range-partitions tokens by month of expire_at (tokens_pYYYYMM), so TokenRetentionJob drops whole months
+-- of expired tokens instead of deleting them row by row. Enable with services.persistence.token-retention.partitioned.
+-- Only live tokens are copied. Run once during a maintenance window, after tokens-sequence.sql (PostgreSQL 11+). The primary key and the digest
+-- index must include the partition key, so token_digest is only unique per partition (digests are of random tokens).
+BEGIN;
+
+ALTER TABLE tokens RENAME TO tokens_unpartitioned;
+
+CREATE TABLE tokens (
+    id           BIGINT      NOT NULL DEFAULT nextval('tokens_seq'),
+    token_digest BYTEA       NOT NULL,
+    expire_at    TIMESTAMPTZ NOT NULL,
+    revoked      BOOLEAN     NOT NULL,
+    token_epoch  BIGINT      NOT NULL DEFAULT 0,
+    user_id      UUID        NOT NULL REFERENCES users (id),
+    PRIMARY KEY (id, expire_at)
+) PARTITION BY RANGE (expire_at);
+
+CREATE INDEX idx_tokens_token_digest ON tokens (token_digest);
+CREATE INDEX idx_tokens_user_id ON tokens (user_id);
+
+-- Rows past the last monthly partition land here until the job creates their month and moves them out of it.
+CREATE TABLE tokens_default PARTITION OF tokens DEFAULT;
+
+-- Partitions from the current month to two months ahead; the job extends them to cover expiration-rt.
+DO $$
+DECLARE
+    month DATE := date_trunc('month', now());
+BEGIN
+    WHILE month < date_trunc('month', now()) + INTERVAL '3 months' LOOP
+        EXECUTE format('CREATE TABLE tokens_p%s PARTITION OF tokens FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month, 'YYYYMM'), month, month + INTERVAL '1 month');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO tokens (id, token_digest, expire_at, revoked, token_epoch, user_id)
+SELECT id, token_digest, expire_at, revoked, token_epoch, user_id FROM tokens_unpartitioned
+WHERE expire_at >= now() AND NOT revoked;
+
+DROP TABLE tokens_unpartitioned;
+
+COMMIT;
@@ -0,0 +1,10 @@
+-- Refresh tokens are stored as their SHA-256 digest (tokens.token_digest) instead of the raw value
+-- (tokens.refresh_token). Run once before deploying; existing refresh tokens stay valid (PostgreSQL 11+).
+ALTER TABLE tokens ADD COLUMN IF NOT EXISTS token_digest BYTEA;
+
+UPDATE tokens SET token_digest = sha256(convert_to(refresh_token, 'UTF8')) WHERE token_digest IS NULL;
+
+ALTER TABLE tokens ALTER COLUMN token_digest SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_tokens_token_digest ON tokens (token_digest);
+
+ALTER TABLE tokens DROP COLUMN refresh_token;
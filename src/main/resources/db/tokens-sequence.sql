@@ -0,0 +1,9 @@
+-- Token ids come from the pooled sequence tokens_seq (allocation size 50) instead of an identity column, so Hibernate
+-- can batch token inserts. Run once before deploying, so the sequence starts after the existing ids (PostgreSQL 10+).
+CREATE SEQUENCE IF NOT EXISTS tokens_seq INCREMENT BY 50;
+
+-- The pooled optimizer treats each value as the upper end of a block: nextval = n hands out ids n - 49 to n. The first
+-- value must therefore be MAX(id) + 50, so the first block starts right after the existing ids.
+SELECT setval('tokens_seq', COALESCE((SELECT MAX(id) FROM tokens), 0) + 50, false);
+
+ALTER TABLE tokens ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,48 @@
+package domain.validation;
+
+import com.threembank.domain.validation.PasswordPolicy;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordPolicyTest {
+    private final PasswordPolicy policy = PasswordPolicy.defaults();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Test@123Qwerty", "Aa1!aaaaaaaa", "Senha#Forte2025ção"})
+    void test_acceptsPasswordsMatchingEveryRule(String password) {
+        assertThat(policy.test(password)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Te@1qwerty",        // too short
+            "test@123qwerty",    // no uppercase
+            "TEST@123QWERTY",    // no lowercase
+            "Test@abcQwerty",    // no digit
+            "Test1234Qwerty",    // no special character
+            "Test@123\nQwerty"   // line break
+    })
+    void test_rejectsPasswordsBreakingARule(String password) {
+        assertThat(policy.test(password)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Test@123Qwerty"})
+    void test_rejectsBreachedPasswords(String password) {
+        var screened = PasswordPolicy.builder()
+                .withMinLength(12)
+                .withMaxLength(128)
+                .withRequireLowercase(true)
+                .withRequireUppercase(true)
+                .withRequireDigit(true)
+                .withRequireSpecial(true)
+                .withSpecialCharacters("@#$%^&+=!")
+                .withBreachedPasswordCheck(password::contentEquals)
+                .build();
+
+        assertThat(screened.test(password)).isFalse();
+        assertThat(screened.test("Other@123Qwerty")).isTrue();
+    }
+}
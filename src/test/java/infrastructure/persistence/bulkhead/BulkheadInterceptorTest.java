@@ -0,0 +1,141 @@
+package infrastructure.persistence.bulkhead;
+
+import com.threembank.infrastructure.persistence.bulkhead.Bulkhead;
+import com.threembank.infrastructure.persistence.bulkhead.DatabaseBulkhead;
+import com.threembank.infrastructure.persistence.bulkhead.DbOperation;
+import com.threembank.infrastructure.persistence.config.BulkheadConfig;
+import com.threembank.infrastructure.persistence.config.properties.PersistenceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadInterceptorTest {
+    private final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class);
+    private final FakeRepository repository = context.getBean(FakeRepository.class);
+    private final RecordingTransactionManager transactionManager = context.getBean(RecordingTransactionManager.class);
+    private final MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+    @AfterEach
+    void close() {
+        context.close();
+    }
+
+    @Test
+    void advisor_takesThePermitBeforeTheTransactionBegins() {
+        assertThat(AopUtils.isAopProxy(repository)).isTrue();
+
+        assertThat(repository.find()).isEqualTo("found");
+
+        assertThat(transactionManager.availableReadPermitsAtBegin).containsExactly(0.0);
+        assertThat(available(DbOperation.READ)).isEqualTo(1.0);
+    }
+
+    @Test
+    void advisor_rethrowsTheOriginalExceptionUnwrapped() {
+        var failure = new IOException("connection reset");
+
+        assertThatThrownBy(() -> repository.fail(failure)).isSameAs(failure);
+        assertThatThrownBy(() -> repository.fail(new IllegalStateException("constraint")))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("constraint");
+        assertThat(available(DbOperation.WRITE)).isEqualTo(1.0);
+    }
+
+    private double available(DbOperation operation) {
+        return registry.get("db.bulkhead.available").tag("operation", operation.name().toLowerCase()).gauge().value();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(BulkheadConfig.class)
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PersistenceProperties persistenceProperties() {
+            return new Binder(new MapConfigurationPropertySource(Map.of(
+                    "services.persistence.bulkhead.read-permits", "1",
+                    "services.persistence.bulkhead.write-permits", "1")))
+                    .bind("services.persistence", PersistenceProperties.class).get();
+        }
+
+        @Bean
+        DatabaseBulkhead databaseBulkhead(PersistenceProperties properties, MeterRegistry registry) {
+            return new DatabaseBulkhead(properties, registry);
+        }
+
+        @Bean
+        RecordingTransactionManager transactionManager(MeterRegistry registry) {
+            return new RecordingTransactionManager(registry);
+        }
+
+        @Bean
+        FakeRepository fakeRepository() {
+            return new FakeRepository();
+        }
+    }
+
+    static class FakeRepository {
+        @Bulkhead(DbOperation.READ)
+        @Transactional(readOnly = true)
+        public String find() {
+            return "found";
+        }
+
+        @Bulkhead(DbOperation.WRITE)
+        public void fail(Exception failure) throws Exception {
+            throw failure;
+        }
+    }
+
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+        private final MeterRegistry registry;
+        private final List<Double> availableReadPermitsAtBegin = new ArrayList<>();
+
+        RecordingTransactionManager(MeterRegistry registry) {
+            this.registry = registry;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            availableReadPermitsAtBegin.add(registry.get("db.bulkhead.available").tag("operation", "read").gauge().value());
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
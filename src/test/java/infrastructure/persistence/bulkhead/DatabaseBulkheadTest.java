@@ -0,0 +1,72 @@
+package infrastructure.persistence.bulkhead;
+
+import com.threembank.infrastructure.persistence.bulkhead.DatabaseBulkhead;
+import com.threembank.infrastructure.persistence.bulkhead.DbOperation;
+import com.threembank.infrastructure.persistence.config.properties.PersistenceProperties;
+import com.threembank.shared.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseBulkheadTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DatabaseBulkhead bulkhead = new DatabaseBulkhead(properties(), registry);
+
+    @Test
+    void call_rejectsWhenTheOperationClassIsExhausted() throws InterruptedException {
+        var holding = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var holder = Thread.ofVirtual().start(() -> bulkhead.run(DbOperation.WRITE, () -> {
+            holding.countDown();
+            awaitQuietly(release);
+        }));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> bulkhead.call(DbOperation.WRITE, () -> 1))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(bulkhead.call(DbOperation.READ, () -> 1)).isEqualTo(1);
+        assertThat(registry.get("db.bulkhead.rejected").tag("operation", "write").counter().count()).isEqualTo(1);
+        assertThat(registry.get("db.bulkhead.rejected").tag("operation", "read").counter().count()).isZero();
+
+        release.countDown();
+        holder.join();
+        assertThat(bulkhead.call(DbOperation.WRITE, () -> 1)).isEqualTo(1);
+    }
+
+    @Test
+    void readPermits_includeTheReplicaPools() {
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "services.persistence.bulkhead.read-permits", "4",
+                "services.persistence.read-replicas.urls", "jdbc:postgresql://replica-1/auth,jdbc:postgresql://replica-2/auth",
+                "services.persistence.read-replicas.maximum-pool-size", "8")))
+                .bind("services.persistence", PersistenceProperties.class).get();
+
+        var replicaRegistry = new SimpleMeterRegistry();
+        new DatabaseBulkhead(properties, replicaRegistry);
+
+        assertThat(replicaRegistry.get("db.bulkhead.available").tag("operation", "read").gauge().value()).isEqualTo(20);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static PersistenceProperties properties() {
+        return new Binder(new MapConfigurationPropertySource(Map.of(
+                "services.persistence.bulkhead.write-permits", "1",
+                "services.persistence.bulkhead.timeout", "50ms")))
+                .bind("services.persistence", PersistenceProperties.class).get();
+    }
+}
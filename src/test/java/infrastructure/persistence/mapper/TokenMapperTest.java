@@ -0,0 +1,81 @@
+package infrastructure.persistence.mapper;
+
+import com.threembank.domain.entity.Token;
+import com.threembank.infrastructure.persistence.entity.TokenEntity;
+import com.threembank.infrastructure.persistence.mapper.TokenMapper;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.infrastructure.security.jwt.CompactJwtSerializer;
+import com.threembank.infrastructure.security.jwt.IssuerResolver;
+import com.threembank.infrastructure.security.jwt.JwtTokenProvider;
+import com.threembank.infrastructure.security.jwt.TokenDigest;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import com.threembank.infrastructure.security.user.BasicUserDetails;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenMapperTest {
+    private final TokenMapper mapper = Mappers.getMapper(TokenMapper.class);
+
+    @Test
+    void toEntity_storesSha256DigestInsteadOfToken() throws Exception {
+        var token = token("refresh-token");
+
+        var entity = mapper.toEntity(token);
+
+        assertThat(entity.getDigest())
+                .hasSize(32)
+                .isEqualTo(MessageDigest.getInstance("SHA-256").digest("refresh-token".getBytes(StandardCharsets.UTF_8)));
+        assertThat(entity.getUser().getId()).isEqualTo(token.getUserId());
+    }
+
+    @Test
+    void partialUpdate_keepsDigestWhenTokenHasNoRefreshToken() {
+        var entity = new TokenEntity();
+        entity.setDigest(TokenDigest.of("stored"));
+
+        mapper.partialUpdate(token(null), entity);
+        assertThat(entity.getDigest()).isEqualTo(TokenDigest.of("stored"));
+
+        mapper.partialUpdate(token("replacement"), entity);
+        assertThat(entity.getDigest()).isEqualTo(TokenDigest.of("replacement"));
+    }
+
+    @Test
+    void opaqueRefreshToken_isStoredUnderTheDigestItIsLookedUpBy() throws Exception {
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "services.security.jwt.token.expiration-at", "15m",
+                "services.security.jwt.token.expiration-rt", "7d",
+                "services.security.jwt.token.refresh-mode", "opaque")))
+                .bind("services.security", SecProperties.class).get();
+        var algorithm = SigningAlgorithm.RS256;
+        var provider = new JwtTokenProvider(properties,
+                new CompactJwtSerializer(new JwtKeyRing(algorithm.generate(), algorithm)), new IssuerResolver(properties));
+        var user = BasicUserDetails.builder().id(UUID.randomUUID()).username("user@3mbank.com.br").authorities(Set.of()).build();
+
+        var refreshToken = provider.generate(user, "https://auth.3mbank.com.br").refreshToken();
+        var entity = mapper.toEntity(token(refreshToken));
+
+        assertThat(refreshToken).matches("[A-Za-z0-9_-]{43}");
+        assertThat(entity.getDigest()).isEqualTo(TokenDigest.of(refreshToken));
+    }
+
+    private static Token token(String refreshToken) {
+        return Token.builder()
+                .withRefreshToken(refreshToken)
+                .withUserId(UUID.randomUUID())
+                .withExpiresAt(Instant.now().plusSeconds(60))
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package infrastructure.persistence.repository;
+
+import com.threembank.domain.entity.Client;
+import com.threembank.domain.valueobject.Scope;
+import com.threembank.infrastructure.persistence.repository.ServiceRepositoryImpl;
+import com.threembank.infrastructure.persistence.routing.ReadYourWritesTracker;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Runs {@link ServiceRepositoryImpl#insertAll} against PostgreSQL, since it relies on
+ * {@code insert ... on conflict do nothing returning}. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ServiceRepositoryImplTest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private ServiceRepositoryImpl repository;
+
+    @BeforeAll
+    static void createSchema() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.execute("""
+                create table services (
+                    client_id varchar(255) primary key,
+                    client_secret varchar(255) not null
+                )""");
+        jdbcTemplate.execute("""
+                create table services_scopes (
+                    client_id varchar(255) not null references services,
+                    scope varchar(255)
+                )""");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("truncate services_scopes, services");
+        repository = new ServiceRepositoryImpl(null, null, jdbcTemplate, mock(ReadYourWritesTracker.class));
+    }
+
+    @Test
+    void insertAll_returnsOnlyTheIdsItInserted() {
+        jdbcTemplate.update("insert into services (client_id, client_secret) values ('existing', 'old')");
+
+        var inserted = repository.insertAll(List.of(client("existing"), client("new-1"), client("new-2")));
+
+        assertThat(inserted).containsExactlyInAnyOrder("new-1", "new-2");
+        assertThat(jdbcTemplate.queryForObject(
+                "select client_secret from services where client_id = 'existing'", String.class)).isEqualTo("old");
+        assertThat(jdbcTemplate.queryForList("select client_id from services_scopes", String.class))
+                .containsExactlyInAnyOrder("new-1", "new-2");
+    }
+
+    @Test
+    void insertAll_spansSeveralStatements() {
+        var clients = IntStream.range(0, 250).mapToObj(i -> client("client-" + i)).toList();
+
+        assertThat(repository.insertAll(clients)).hasSize(250);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from services_scopes", Long.class)).isEqualTo(250);
+    }
+
+    private static Client client(String clientId) {
+        var client = Client.create(clientId, Set.of(Scope.READ));
+        client.setClientSecret("{hmac-sha256}" + clientId);
+        return client;
+    }
+}
@@ -0,0 +1,116 @@
+package infrastructure.persistence.repository;
+
+import com.threembank.domain.entity.Token;
+import com.threembank.infrastructure.persistence.repository.TokenRepositoryImpl;
+import com.threembank.infrastructure.security.jwt.TokenDigest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Runs {@link TokenRepositoryImpl#rotate} against PostgreSQL, since the rotation is a single
+ * {@code UPDATE ... FROM ... RETURNING} statement. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenRepositoryImplTest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private TokenRepositoryImpl repository;
+    private UUID userId;
+
+    @BeforeAll
+    static void createSchema() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.execute("""
+                create table users (
+                    id uuid primary key,
+                    token_epoch bigint not null default 0
+                )""");
+        jdbcTemplate.execute("""
+                create table tokens (
+                    id bigserial primary key,
+                    token_digest bytea not null unique,
+                    expire_at timestamp(6) with time zone not null,
+                    revoked boolean not null,
+                    token_epoch bigint not null default 0,
+                    user_id uuid not null references users
+                )""");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("truncate tokens, users");
+        userId = UUID.randomUUID();
+        jdbcTemplate.update("insert into users (id) values (?)", userId);
+        repository = new TokenRepositoryImpl(token -> jdbcTemplate.update(
+                "insert into tokens (token_digest, expire_at, revoked, token_epoch, user_id) values (?, ?, ?, ?, ?)",
+                TokenDigest.of(token.getRefreshToken()), Timestamp.from(token.getExpiresAt()), token.isRevoked(),
+                token.getEpoch(), token.getUserId()), jdbcTemplate);
+    }
+
+    @Test
+    void rotate_revokesTheTokenSoAReplayIsRejected() {
+        var expiresAt = Instant.now().plus(Duration.ofHours(1));
+        repository.save(token("refresh", expiresAt, 0));
+
+        var rotated = repository.rotate("refresh");
+
+        assertThat(rotated).hasValueSatisfying(token -> {
+            assertThat(token.getUserId()).isEqualTo(userId);
+            assertThat(token.getEpoch()).isZero();
+            assertThat(token.getExpiresAt()).isCloseTo(expiresAt, within(1, ChronoUnit.MILLIS));
+            assertThat(token.isRevoked()).isTrue();
+        });
+        assertThat(repository.rotate("refresh")).isEmpty();
+        assertThat(repository.rotate("unknown")).isEmpty();
+    }
+
+    @Test
+    void rotate_rejectsTokenIssuedBeforeTheLogoutEpoch() {
+        repository.save(token("refresh", Instant.now().plus(Duration.ofHours(1)), 0));
+        jdbcTemplate.update("update users set token_epoch = token_epoch + 1 where id = ?", userId);
+
+        assertThat(repository.rotate("refresh")).isEmpty();
+        assertThat(revoked("refresh")).isFalse();
+    }
+
+    @Test
+    void rotate_rejectsExpiredToken() {
+        repository.save(token("refresh", Instant.now().minusSeconds(1), 0));
+
+        assertThat(repository.rotate("refresh")).isEmpty();
+        assertThat(revoked("refresh")).isFalse();
+    }
+
+    private Token token(String value, Instant expiresAt, long epoch) {
+        return Token.builder()
+                .withRefreshToken(value)
+                .withUserId(userId)
+                .withExpiresAt(expiresAt)
+                .withEpoch(epoch)
+                .build();
+    }
+
+    private boolean revoked(String value) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select revoked from tokens where token_digest = ?", Boolean.class, (Object) TokenDigest.of(value)));
+    }
+}
@@ -0,0 +1,127 @@
+package infrastructure.persistence.token;
+
+import com.threembank.domain.entity.Token;
+import com.threembank.infrastructure.persistence.token.BatchingTokenWriter;
+import com.threembank.infrastructure.persistence.token.SynchronousTokenWriter;
+import com.threembank.infrastructure.persistence.token.TokenWriteMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingTokenWriterTest {
+
+    @Test
+    void flush_retriesFailedBatchRowByRowAndFailsOnlyTheBadRow() throws Exception {
+        var committed = ConcurrentHashMap.<String>newKeySet();
+        var delegate = new FakeWriter(tokens -> {
+            if (tokens.stream().anyMatch(token -> token.getRefreshToken().equals("bad"))) {
+                throw new IllegalArgumentException("duplicate key");
+            }
+            tokens.forEach(token -> committed.add(token.getRefreshToken()));
+        });
+
+        try (var writer = writer(delegate)) {
+            var results = new ArrayList<Future<?>>();
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (var value : List.of("a", "b", "bad", "c", "d")) {
+                    results.add(executor.submit(() -> writer.write(token(value))));
+                }
+            }
+
+            for (var i = 0; i < results.size(); i++) {
+                if (i == 2) {
+                    assertThatThrownBy(results.get(i)::get).hasCauseInstanceOf(IllegalArgumentException.class);
+                } else {
+                    results.get(i).get();
+                }
+            }
+        }
+        assertThat(committed).containsExactlyInAnyOrder("a", "b", "c", "d");
+        assertThat(delegate.batches).anyMatch(batch -> batch.size() > 1);
+    }
+
+    @Test
+    void run_keepsTheWorkerAliveAfterAnError() throws Exception {
+        var committed = ConcurrentHashMap.<String>newKeySet();
+        var delegate = new FakeWriter(tokens -> {
+            if (tokens.getFirst().getRefreshToken().equals("fatal")) {
+                throw new StackOverflowError("boom");
+            }
+            tokens.forEach(token -> committed.add(token.getRefreshToken()));
+        });
+
+        try (var writer = writer(delegate)) {
+            assertThatThrownBy(() -> writer.write(token("fatal")))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+
+            writer.write(token("after"));
+        }
+        assertThat(committed).isEqualTo(Set.of("after"));
+    }
+
+    @Test
+    void close_writesEveryTokenWrittenWhileClosing() throws Exception {
+        var committed = ConcurrentHashMap.<String>newKeySet();
+        var delegate = new FakeWriter(tokens -> tokens.forEach(token -> committed.add(token.getRefreshToken())));
+        var writer = writer(delegate);
+
+        var results = new ArrayList<Future<?>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < 500; i++) {
+                var value = "token-" + i;
+                results.add(executor.submit(() -> writer.write(token(value))));
+                if (i == 250) {
+                    executor.submit(() -> {
+                        writer.close();
+                        return null;
+                    });
+                }
+            }
+        }
+
+        for (var result : results) {
+            result.get();
+        }
+        assertThat(committed).hasSize(500);
+    }
+
+    private static BatchingTokenWriter writer(SynchronousTokenWriter delegate) {
+        var writer = new BatchingTokenWriter(delegate, TokenWriteMode.GROUP_COMMIT, Duration.ofMillis(50), 50, 100,
+                Duration.ofSeconds(5), new SimpleMeterRegistry());
+        writer.start();
+        return writer;
+    }
+
+    private static Token token(String value) {
+        return Token.builder().withRefreshToken(value).build();
+    }
+
+    private static class FakeWriter extends SynchronousTokenWriter {
+        private final Consumer<List<Token>> insert;
+        private final List<List<Token>> batches = new CopyOnWriteArrayList<>();
+
+        FakeWriter(Consumer<List<Token>> insert) {
+            super(null, null, null, null);
+            this.insert = insert;
+        }
+
+        @Override
+        public void writeAll(List<Token> tokens) {
+            batches.add(List.copyOf(tokens));
+            insert.accept(tokens);
+        }
+    }
+}
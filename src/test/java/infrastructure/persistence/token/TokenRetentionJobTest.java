@@ -0,0 +1,101 @@
+package infrastructure.persistence.token;
+
+import com.threembank.infrastructure.persistence.config.properties.PersistenceProperties;
+import com.threembank.infrastructure.persistence.token.TokenRetentionJob;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@link TokenRetentionJob} against a {@code tokens} table partitioned by {@code db/tokens-partitioned.sql}.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenRetentionJobTest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    static void createSchema() {
+        var dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("create table users (id uuid primary key, token_epoch bigint not null default 0)");
+        jdbcTemplate.execute("""
+                create table tokens (
+                    id bigint primary key,
+                    token_digest bytea not null,
+                    expire_at timestamptz not null,
+                    revoked boolean not null,
+                    token_epoch bigint not null default 0,
+                    user_id uuid not null references users
+                )""");
+        var populator = new ResourceDatabasePopulator(
+                new ClassPathResource("db/tokens-sequence.sql"), new ClassPathResource("db/tokens-partitioned.sql"));
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        populator.execute(dataSource);
+    }
+
+    @Test
+    void purge_movesTokensOutOfTheDefaultPartitionUpToTheRefreshTokenLifetime() {
+        var now = Instant.now();
+        var userId = UUID.randomUUID();
+        var expireAt = now.plus(150, ChronoUnit.DAYS);
+        jdbcTemplate.update("insert into users (id) values (?)", userId);
+        jdbcTemplate.update("insert into tokens (token_digest, expire_at, revoked, user_id) values (?, ?, false, ?)",
+                new byte[32], Timestamp.from(expireAt), userId);
+        assertThat(count("tokens_default")).isEqualTo(1);
+
+        job("180d").purge();
+
+        var partition = "tokens_p" + YearMonth.from(expireAt.atOffset(ZoneOffset.UTC))
+                .format(DateTimeFormatter.ofPattern("yyyyMM"));
+        var lastPartition = "tokens_p" + YearMonth.from(now.plus(180, ChronoUnit.DAYS).atOffset(ZoneOffset.UTC))
+                .format(DateTimeFormatter.ofPattern("yyyyMM"));
+        assertThat(count("tokens_default")).isZero();
+        assertThat(count(partition)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class, lastPartition))
+                .isTrue();
+    }
+
+    private static long count(String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    private static TokenRetentionJob job(String refreshTokenLifetime) {
+        var persistence = new Binder(new MapConfigurationPropertySource(Map.of(
+                "services.persistence.token-retention.partitioned", "true")))
+                .bind("services.persistence", PersistenceProperties.class).get();
+        var security = new Binder(new MapConfigurationPropertySource(Map.of(
+                "services.security.jwt.token.expiration-rt", refreshTokenLifetime)))
+                .bind("services.security", SecProperties.class).get();
+        return new TokenRetentionJob(jdbcTemplate, transactionTemplate, persistence, security, new SimpleMeterRegistry());
+    }
+}
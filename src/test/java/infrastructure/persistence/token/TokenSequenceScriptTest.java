@@ -0,0 +1,70 @@
+package infrastructure.persistence.token;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs {@code db/tokens-sequence.sql} on a {@code tokens} table that already has rows, then draws ids the way
+ * Hibernate's pooled optimizer does for {@code tokens_seq} (allocation size 50). Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenSequenceScriptTest {
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void createSchema() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        jdbcTemplate.execute("""
+                create table tokens (
+                    id bigint generated by default as identity primary key,
+                    revoked boolean not null
+                )""");
+        jdbcTemplate.update("insert into tokens (revoked) select false from generate_series(1, 1000)");
+    }
+
+    @Test
+    void script_startsThePooledIdsAfterTheExistingRows() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/tokens-sequence.sql"))
+                .execute(jdbcTemplate.getDataSource());
+
+        var optimizer = new PooledOptimizer(Long.class, 50);
+        optimizer.injectInitialValue(1);
+        var callback = new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                return IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class)
+                        .initialize(jdbcTemplate.queryForObject("select nextval('tokens_seq')", Long.class));
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return null;
+            }
+        };
+        var ids = IntStream.range(0, 120).mapToObj(i -> (Long) optimizer.generate(callback)).toList();
+        ids.forEach(id -> jdbcTemplate.update("insert into tokens (id, revoked) values (?, false)", id));
+
+        assertThat(ids.getFirst()).isEqualTo(1001L);
+        assertThat(ids).doesNotHaveDuplicates().allMatch(id -> id > 1000);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from tokens", Long.class)).isEqualTo(1120);
+    }
+}
@@ -0,0 +1,100 @@
+package infrastructure.security.jwt;
+
+import com.threembank.infrastructure.security.config.ResourceServerConfig;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.infrastructure.security.jwt.CompactJwtSerializer;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactJwtSerializerTest {
+
+    @ParameterizedTest
+    @EnumSource(SigningAlgorithm.class)
+    void sign_producesTokenAcceptedByNimbusJwtDecoder(SigningAlgorithm algorithm) throws Exception {
+        var keyRing = new JwtKeyRing(algorithm.generate(), algorithm);
+        var serializer = new CompactJwtSerializer(keyRing);
+        JwtDecoder decoder = new ResourceServerConfig(new SecProperties()).jwtDecoder(keyRing);
+        var now = Instant.now().getEpochSecond();
+
+        var token = serializer.begin()
+                .claim("sub", "0197a2f0-6f4e-7c1a-9f1e-2b7d1c3e4a5b")
+                .claim("iss", "https://auth.3mbank.com.br")
+                .claim("iat", now)
+                .claim("exp", now + 3600)
+                .claim("username", "user@3mbank.com.br")
+                .claim("authorities", List.of("USER", "ADMIN"), Function.identity())
+                .sign();
+
+        var jwt = decoder.decode(token);
+        assertThat(jwt.getHeaders()).containsEntry("alg", algorithm.getJwsAlgorithm().getName())
+                .containsEntry("kid", keyRing.active().keyId());
+        assertThat(jwt.getSubject()).isEqualTo("0197a2f0-6f4e-7c1a-9f1e-2b7d1c3e4a5b");
+        assertThat(jwt.getIssuer().toString()).isEqualTo("https://auth.3mbank.com.br");
+        assertThat(jwt.getIssuedAt()).isEqualTo(Instant.ofEpochSecond(now));
+        assertThat(jwt.getExpiresAt()).isEqualTo(Instant.ofEpochSecond(now + 3600));
+        assertThat(jwt.getClaimAsString("username")).isEqualTo("user@3mbank.com.br");
+        assertThat(jwt.getClaimAsStringList("authorities")).containsExactly("USER", "ADMIN");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SigningAlgorithm.class)
+    void sign_escapesStringsAndEncodesUtf8(SigningAlgorithm algorithm) throws Exception {
+        var keyRing = new JwtKeyRing(algorithm.generate(), algorithm);
+        var serializer = new CompactJwtSerializer(keyRing);
+        JwtDecoder decoder = new ResourceServerConfig(new SecProperties()).jwtDecoder(keyRing);
+        var username = "\"joão\"\\\n\t\u0001ação 🔐 user";
+        var now = Instant.now().getEpochSecond();
+
+        var token = serializer.begin()
+                .claim("sub", "subject")
+                .claim("iat", now)
+                .claim("exp", now + 60)
+                .claim("username", username)
+                .sign();
+
+        assertThat(decoder.decode(token).getClaimAsString("username")).isEqualTo(username);
+    }
+
+    @Test
+    void sign_reusesPooledWritersAcrossVirtualThreads() throws Exception {
+        var algorithm = SigningAlgorithm.ES256;
+        var keyRing = new JwtKeyRing(algorithm.generate(), algorithm);
+        var serializer = new CompactJwtSerializer(keyRing);
+        JwtDecoder decoder = new ResourceServerConfig(new SecProperties()).jwtDecoder(keyRing);
+        var now = Instant.now().getEpochSecond();
+
+        var tokens = new ArrayList<Future<String>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < 200; i++) {
+                var subject = "subject-" + i;
+                tokens.add(executor.submit(() -> serializer.begin()
+                        .claim("sub", subject)
+                        .claim("iat", now)
+                        .claim("exp", now + 60)
+                        .sign()));
+            }
+        }
+
+        for (var i = 0; i < tokens.size(); i++) {
+            assertThat(decoder.decode(tokens.get(i).get()).getSubject()).isEqualTo("subject-" + i);
+        }
+
+        var pooled = new CompactJwtSerializer(keyRing);
+        var writer = pooled.begin();
+        writer.claim("sub", "first").sign();
+        assertThat(pooled.begin()).isSameAs(writer);
+    }
+}
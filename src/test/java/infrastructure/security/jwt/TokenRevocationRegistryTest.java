@@ -0,0 +1,62 @@
+package infrastructure.security.jwt;
+
+import com.threembank.infrastructure.security.jwt.revocation.TokenRevocationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationRegistryTest {
+
+    @Test
+    void isRevoked_rejectsTokensOfAnEarlierEpoch() {
+        var registry = new TokenRevocationRegistry();
+        var logout = Instant.parse("2025-06-01T12:00:00Z");
+
+        registry.revoke("user-1", logout, 3);
+
+        assertThat(registry.isRevoked("user-1", 2L, logout.minusSeconds(60))).isTrue();
+        assertThat(registry.isRevoked("user-1", 2L, logout.plusSeconds(1))).isTrue();
+        assertThat(registry.isRevoked("user-1", 3L, logout)).isFalse();
+        assertThat(registry.isRevoked("user-2", 0L, logout.minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    void isRevoked_fallsBackToIssuedAtForTokensWithoutEpoch() {
+        var registry = new TokenRevocationRegistry();
+        var logout = Instant.parse("2025-06-01T12:00:00Z");
+
+        registry.revoke("user-1", logout, 1);
+
+        assertThat(registry.isRevoked("user-1", null, logout.minusSeconds(60))).isTrue();
+        assertThat(registry.isRevoked("user-1", null, logout)).isTrue();
+        assertThat(registry.isRevoked("user-1", null, logout.plusSeconds(1))).isFalse();
+    }
+
+    @Test
+    void revoke_keepsTheLatestRevocation() {
+        var registry = new TokenRevocationRegistry();
+        var logout = Instant.parse("2025-06-01T12:00:00Z");
+
+        registry.revoke("user-1", logout, 2);
+        registry.revoke("user-1", logout.minusSeconds(3600), 1);
+
+        assertThat(registry.isRevoked("user-1", 1L, logout.plusSeconds(1))).isTrue();
+        assertThat(registry.isRevoked("user-1", null, logout.minusSeconds(1))).isTrue();
+    }
+
+    @Test
+    void prune_dropsRevocationsOlderThanTheHorizon() {
+        var registry = new TokenRevocationRegistry();
+        var logout = Instant.parse("2025-06-01T12:00:00Z");
+
+        registry.revoke("user-1", logout, 1);
+        registry.revoke("user-2", logout.plusSeconds(7200), 1);
+        registry.prune(logout.plusSeconds(3600));
+
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.isRevoked("user-1", 0L, logout.minusSeconds(60))).isFalse();
+        assertThat(registry.isRevoked("user-2", 0L, logout)).isTrue();
+    }
+}
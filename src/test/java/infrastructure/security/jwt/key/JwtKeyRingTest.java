@@ -0,0 +1,132 @@
+package infrastructure.security.jwt.key;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.threembank.infrastructure.security.config.ResourceServerConfig;
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRing;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyRotationScheduler;
+import com.threembank.infrastructure.security.jwt.key.JwtKeyStore;
+import com.threembank.infrastructure.security.jwt.key.SigningAlgorithm;
+import com.threembank.infrastructure.security.jwt.key.StoredSigningKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtKeyRingTest {
+    private static final SigningAlgorithm ALGORITHM = SigningAlgorithm.ES256;
+    private static final Duration PREPUBLISH = Duration.ofDays(2);
+    private static final Duration OVERLAP = Duration.ofDays(1);
+
+    @Test
+    void rotate_seedsAnEmptyStoreWithTheConfiguredKey() throws Exception {
+        var rows = new ArrayList<StoredSigningKey>();
+        var ring = new JwtKeyRing(ALGORITHM.generate(), ALGORITHM);
+
+        scheduler(ring, rows).rotate();
+
+        assertThat(rows).extracting(StoredSigningKey::keyId).containsExactly(ring.active().keyId());
+        assertThat(ring.next()).isEmpty();
+    }
+
+    @Test
+    void rotate_publishesTheNextKeyAndDropsKeysPastTheOverlap() throws Exception {
+        var now = Instant.now();
+        var retired = new StoredSigningKey(ALGORITHM.generate(), now.minus(Duration.ofDays(40)), now.minus(Duration.ofDays(40)));
+        var active = new StoredSigningKey(ALGORITHM.generate(), now.minus(Duration.ofDays(31)), now.minus(Duration.ofDays(29)));
+        var rows = new ArrayList<>(List.of(retired, active));
+        var ring = new JwtKeyRing(ALGORITHM.generate(), ALGORITHM);
+
+        scheduler(ring, rows).rotate();
+
+        assertThat(rows).extracting(StoredSigningKey::keyId).doesNotContain(retired.keyId()).contains(active.keyId());
+        var next = rows.stream().filter(row -> row.activatesAt().isAfter(now)).findFirst().orElseThrow();
+        assertThat(next.activatesAt()).isAfterOrEqualTo(now.plus(PREPUBLISH));
+        assertThat(ring.active().keyId()).isEqualTo(active.keyId());
+        assertThat(ring.next().orElseThrow().keyId()).isEqualTo(next.keyId());
+        assertThat(ring.snapshot().jwkSet().getKeyByKeyId(next.keyId())).isNotNull();
+        assertThat(ring.snapshot().jwkSet().getKeyByKeyId(retired.keyId())).isNull();
+        assertThat(decoder(ring).decode(sign(ring)).getHeaders()).containsEntry("kid", active.keyId());
+    }
+
+    @Test
+    void load_givesEveryInstanceTheSameRingFromTheSharedKeys() throws Exception {
+        var start = Instant.parse("2026-01-01T00:00:00Z");
+        var rotation = start.plus(Duration.ofDays(30));
+        var keys = List.of(
+                new StoredSigningKey(ALGORITHM.generate(), start, start),
+                new StoredSigningKey(ALGORITHM.generate(), rotation.minus(Duration.ofDays(2)), rotation));
+        var node1 = new JwtKeyRing(ALGORITHM.generate(), ALGORITHM);
+        var node2 = new JwtKeyRing(ALGORITHM.generate(), ALGORITHM);
+
+        node1.load(keys, rotation.minusSeconds(60), OVERLAP);
+        node2.load(keys, rotation.minusSeconds(60), OVERLAP);
+        assertThat(node1.active().keyId()).isEqualTo(node2.active().keyId()).isEqualTo(keys.get(0).keyId());
+        assertThat(node1.next().orElseThrow().keyId()).isEqualTo(keys.get(1).keyId());
+        assertThat(node1.snapshot().etag()).isEqualTo(node2.snapshot().etag());
+        var signedBeforeRotation = sign(node1);
+
+        node1.load(keys, rotation, OVERLAP);
+        node2.load(keys, rotation.plus(OVERLAP).minusSeconds(1), OVERLAP);
+        assertThat(node1.active().keyId()).isEqualTo(node2.active().keyId()).isEqualTo(keys.get(1).keyId());
+        assertThat(decoder(node2).decode(signedBeforeRotation).getHeaders()).containsEntry("kid", keys.get(0).keyId());
+        assertThat(decoder(node1).decode(sign(node2)).getHeaders()).containsEntry("kid", keys.get(1).keyId());
+
+        node2.load(keys, rotation.plus(OVERLAP), OVERLAP);
+        assertThat(node2.snapshot().retired()).isEmpty();
+        assertThatThrownBy(() -> decoder(node2).decode(signedBeforeRotation)).isInstanceOf(JwtException.class);
+    }
+
+    private static String sign(JwtKeyRing ring) throws JOSEException {
+        var now = Instant.now();
+        var jwt = new SignedJWT(ring.active().header(), new JWTClaimsSet.Builder()
+                .subject("subject")
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(60)))
+                .build());
+        jwt.sign(ring.active().signer());
+        return jwt.serialize();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static JwtKeyRotationScheduler scheduler(JwtKeyRing ring, List<StoredSigningKey> rows) {
+        var store = mock(JwtKeyStore.class);
+        when(store.locked(any())).thenAnswer(invocation -> invocation.getArgument(0, Supplier.class).get());
+        when(store.load()).thenAnswer(_ -> List.copyOf(rows));
+        doAnswer(invocation -> rows.add(invocation.getArgument(0))).when(store).insert(any());
+        doAnswer(invocation -> rows.removeIf(row -> invocation.<Collection<String>>getArgument(0).contains(row.keyId())))
+                .when(store).delete(any());
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "services.security.jwt.rotation.period", "30d",
+                "services.security.jwt.rotation.prepublish", PREPUBLISH.toString(),
+                "services.security.jwt.rotation.overlap", OVERLAP.toString())))
+                .bind("services.security", SecProperties.class).get();
+        return new JwtKeyRotationScheduler(ring, store, properties);
+    }
+
+    private static JwtDecoder decoder(JwtKeyRing ring) {
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "services.security.jwt.decoder-cache.enabled", "false")))
+                .bind("services.security", SecProperties.class).get();
+        return new ResourceServerConfig(properties).jwtDecoder(ring);
+    }
+}
@@ -0,0 +1,47 @@
+package infrastructure.security.password;
+
+import com.threembank.infrastructure.security.password.BreachedPasswordFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BreachedPasswordFilterTest {
+
+    @Test
+    void isBreached_findsEveryWrittenPassword(@TempDir Path dir) throws Exception {
+        var breached = List.of("123456", "password", "Test@123Qwerty", "senha123", "qwerty");
+        var file = dir.resolve("breached.bloom");
+        var sha1 = MessageDigest.getInstance("SHA-1");
+
+        BreachedPasswordFilter.write(file, 1_000, 0.001, breached.stream()
+                .map(password -> sha1.digest(password.getBytes(StandardCharsets.UTF_8)))
+                .toList());
+        var filter = new BreachedPasswordFilter(file);
+
+        assertThat(breached).allMatch(filter::isBreached);
+        assertThat(filter.isBreached("Unlisted@Passw0rd-2025")).isFalse();
+    }
+
+    @Test
+    void constructor_rejectsMissingOrTruncatedFile(@TempDir Path dir) throws Exception {
+        var file = dir.resolve("breached.bloom");
+        BreachedPasswordFilter.write(file, 1_000, 0.01, List.of());
+        var truncated = dir.resolve("truncated.bloom");
+        Files.write(truncated, Arrays.copyOf(Files.readAllBytes(file), (int) Files.size(file) - 8));
+
+        assertThatThrownBy(() -> new BreachedPasswordFilter(dir.resolve("missing.bloom")))
+                .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> new BreachedPasswordFilter(truncated))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
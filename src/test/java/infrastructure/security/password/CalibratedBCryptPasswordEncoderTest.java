@@ -0,0 +1,22 @@
+package infrastructure.security.password;
+
+import com.threembank.infrastructure.security.password.CalibratedBCryptPasswordEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    void upgradeEncoding_onlyRaisesWeakerHashes() {
+        var encoder = CalibratedBCryptPasswordEncoder.calibrate(Duration.ofSeconds(10), 5, 5);
+
+        assertThat(encoder.getStrength()).isEqualTo(5);
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password"))).isFalse();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password"))).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package infrastructure.security.password;
+
+import com.threembank.infrastructure.security.config.properties.SecProperties;
+import com.threembank.infrastructure.security.password.ClientSecretEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientSecretEncoderTest {
+    private static final String SECRET = "q8Zl1sVd0m@K3xHf7nR2wYcT9pGb4aLe";
+
+    private final ClientSecretEncoder clientSecrets = clientSecrets("0123456789abcdef0123456789abcdef");
+
+    @Test
+    void encode_usesPepperedHmac() {
+        var encoded = clientSecrets.getEncoder().encode(SECRET);
+
+        assertThat(encoded).startsWith("{hmac-sha256}");
+        assertThat(clientSecrets.getEncoder().matches(SECRET, encoded)).isTrue();
+        assertThat(clientSecrets.getEncoder().matches(SECRET + "x", encoded)).isFalse();
+        assertThat(clientSecrets.getEncoder().upgradeEncoding(encoded)).isFalse();
+        assertThat(clientSecrets("fedcba9876543210fedcba9876543210").getEncoder().matches(SECRET, encoded)).isFalse();
+    }
+
+    @Test
+    void matches_acceptsBcryptSecretsAndReportsThemForUpgrade() {
+        var bcrypt = PasswordEncoderFactories.createDelegatingPasswordEncoder().encode(SECRET);
+
+        assertThat(clientSecrets.getEncoder().matches(SECRET, bcrypt)).isTrue();
+        assertThat(clientSecrets.getEncoder().upgradeEncoding(bcrypt)).isTrue();
+    }
+
+    @Test
+    void encode_isStableAcrossVirtualThreads() throws Exception {
+        var expected = clientSecrets.getEncoder().encode(SECRET);
+
+        var encoded = new ArrayList<Future<String>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < 100; i++) {
+                encoded.add(executor.submit(() -> clientSecrets.getEncoder().encode(SECRET)));
+            }
+        }
+
+        for (var future : encoded) {
+            assertThat(future.get()).isEqualTo(expected);
+        }
+    }
+
+    private static ClientSecretEncoder clientSecrets(String pepper) {
+        var properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "services.security.client-secret.pepper", pepper)))
+                .bind("services.security", SecProperties.class).get();
+        return new ClientSecretEncoder(properties, PasswordEncoderFactories.createDelegatingPasswordEncoder());
+    }
+}
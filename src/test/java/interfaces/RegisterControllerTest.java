@@ -6,6 +6,8 @@ import com.threembank.application.usercase.RegisterUseCase;
 import com.threembank.domain.valueobject.Role;
 import com.threembank.domain.valueobject.Scope;
 import com.threembank.interfaces.controller.RegisterController;
+import com.threembank.interfaces.dto.RegisterClientBatchRequest;
+import com.threembank.interfaces.dto.RegisterClientBatchResponse;
 import com.threembank.interfaces.dto.RegisterClientRequest;
 import com.threembank.interfaces.dto.RegisterClientResponse;
 import com.threembank.interfaces.dto.RegisterUserRequest;
@@ -265,4 +267,55 @@ class RegisterControllerTest {
 
         verify(registerUseCase, times(1)).register(any(RegisterClientRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void registerClientBatch_returnsPerItemResults() throws Exception {
+        RegisterClientRequest first = new RegisterClientRequest();
+        first.setClientId("billing-service");
+        first.setScopes(List.of(Scope.READ));
+        RegisterClientRequest second = new RegisterClientRequest();
+        second.setClientId("existing-client-id");
+        second.setScopes(List.of(Scope.READ, Scope.WRITE));
+        RegisterClientBatchRequest request = new RegisterClientBatchRequest();
+        request.setClients(List.of(first, second));
+
+        when(registerUseCase.register(any(RegisterClientBatchRequest.class))).thenReturn(new RegisterClientBatchResponse(List.of(
+                RegisterClientBatchResponse.Item.created("billing-service", "generatedClientSecret"),
+                RegisterClientBatchResponse.Item.alreadyExists("existing-client-id"))));
+
+        mockMvc.perform(post("/register/client/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clients[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.clients[0].clientSecret").value("generatedClientSecret"))
+                .andExpect(jsonPath("$.clients[1].status").value("ALREADY_EXISTS"))
+                .andExpect(jsonPath("$.clients[1].clientSecret").doesNotExist());
+
+        verify(registerUseCase, times(1)).register(any(RegisterClientBatchRequest.class));
+    }
+
+    @Test
+    void registerClientBatch_emptyBatch_badRequest() throws Exception {
+        RegisterClientBatchRequest request = new RegisterClientBatchRequest();
+        request.setClients(Collections.emptyList());
+        mockMvc.perform(post("/register/client/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(registerUseCase, never()).register(any(RegisterClientBatchRequest.class));
+    }
+
+    @Test
+    void registerClientBatch_itemWithoutClientId_badRequest() throws Exception {
+        RegisterClientRequest item = new RegisterClientRequest();
+        item.setScopes(List.of(Scope.READ));
+        RegisterClientBatchRequest request = new RegisterClientBatchRequest();
+        request.setClients(List.of(item));
+        mockMvc.perform(post("/register/client/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(registerUseCase, never()).register(any(RegisterClientBatchRequest.class));
+    }
+}